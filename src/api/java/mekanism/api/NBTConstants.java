@@ -132,6 +132,7 @@ public final class NBTConstants {
     public static final String ITEM = "Item";
     public static final String ITEMS = "Items";
     public static final String LAST_FIRED = "lastFired";
+    public static final String LAST_OWNED = "lastOwned";
     public static final String LAST_PROCESSED = "lastProcessed";
     public static final String LATCHED = "latched";
     public static final String LEVEL = "level";
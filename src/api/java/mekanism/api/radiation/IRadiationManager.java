@@ -16,6 +16,8 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
 
 /**
  * The RadiationManager handles radiation across all in-game dimensions. Radiation exposure levels are provided in _sieverts, defining a rate of accumulation of
@@ -134,6 +136,25 @@ public interface IRadiationManager {
      */
     void radiate(LivingEntity entity, double magnitude);
 
+    /**
+     * Applies an additional magnitude of radiation (Sv) to all living entities within the given zone, after taking into account the radiation resistance provided to
+     * each entity by its armor.
+     *
+     * @param world     The world the zone is in.
+     * @param zone      The zone to radiate entities in.
+     * @param magnitude Dosage of radiation to apply before radiation resistance (Sv).
+     *
+     * @implNote Mekanism's implementation batches zones and applies them at the end of the world's tick, so that entities only need to be looked up once per tick
+     * regardless of how many zones have been radiated. Entities in multiple zones receive the dosage of each zone they are in. This method does not add any radiation
+     * to players in creative or spectator.
+     * @since 10.4.0
+     */
+    default void radiate(Level world, AABB zone, double magnitude) {
+        for (LivingEntity entity : world.getEntitiesOfClass(LivingEntity.class, zone)) {
+            radiate(entity, magnitude);
+        }
+    }
+
     /**
      * Helper to "dump" any radioactive gases stored in the tanks handled by the given gas handler.
      *
@@ -111,6 +111,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      * Ticks the machine has spent processing so far.
      */
     private int operatingTicks;
+    /**
+     * Whether the last time this {@link CachedRecipe} processed it was unable to perform any operations and ran into the same set of errors as the time before.
+     */
+    private boolean blocked;
     /**
      * Allows for cached recipe holders to have handling for when the operating ticks changed, for example to allow the machine to know that the number of operating ticks
      * has changed and sync the progress in containers to clients.
@@ -283,9 +287,68 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      * Called by the holder of this {@link CachedRecipe} to attempt to process/handle the internal recipe.
      */
     public void process() {
+        processTick();
+    }
+
+    /**
+     * Called by the holder of this {@link CachedRecipe} to attempt to process/handle the internal recipe when the holder only gets ticked every few ticks. This has the
+     * same result as calling {@link #process()} once for each elapsed tick, except that ticks that neither finish the recipe nor consume per tick resources skip
+     * recalculating how many operations can be performed, as nothing that affects it changes during them.
+     *
+     * @param elapsedTicks Number of ticks that have passed since the holder last processed this {@link CachedRecipe}.
+     */
+    public void process(int elapsedTicks) {
+        int remainingTicks = elapsedTicks;
+        while (remainingTicks > 0) {
+            int operations = processTick();
+            remainingTicks--;
+            if (operations <= 0) {
+                //If we can't perform any operations, we won't be able to for the remaining ticks either
+                break;
+            } else if (remainingTicks > 0 && !usesResourcesPerTick()) {
+                remainingTicks -= skipTicks(operations, remainingTicks);
+            }
+        }
+    }
+
+    /**
+     * Advances the progress of this {@link CachedRecipe} by up to the given number of ticks without recalculating how many operations can be performed.
+     *
+     * @param operations Number of operations that were performed the last tick.
+     * @param maxTicks   Maximum number of ticks to skip.
+     *
+     * @return Number of ticks that were skipped.
+     */
+    private int skipTicks(int operations, int maxTicks) {
+        //Stop one tick short of finishing, so that the tick that finishes the recipe performs all the normal checks
+        int ticks = Math.min(maxTicks, requiredTicks.getAsInt() - 1 - operatingTicks);
+        if (ticks <= 0) {
+            return 0;
+        }
+        FloatingLong energyPerTick = perTickEnergy.get();
+        if (!energyPerTick.isZero()) {
+            //Only skip as many ticks as we have the energy to run
+            ticks = Math.min(ticks, storedEnergy.get().divideToInt(energyPerTick.multiply(operations)));
+            if (ticks <= 0) {
+                return 0;
+            }
+        }
+        useEnergy(operations * ticks);
+        operatingTicks += ticks;
+        operatingTicksChanged.accept(operatingTicks);
+        return ticks;
+    }
+
+    /**
+     * Processes a single tick of the internal recipe.
+     *
+     * @return Number of operations that were performed, or a negative number if the progress got reset.
+     */
+    private int processTick() {
         //TODO: Evaluate adding in some marker that gets set to true here that then denies the various callbacks/builders from being used
         // as once we start processing the cached recipe should basically be immutable
         int operations;
+        Set<RecipeError> lastErrors = errors;
         if (canHolderFunction.getAsBoolean()) {
             setupVariableValues();
             OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
@@ -310,6 +373,8 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
                 updateErrors(Collections.emptySet());
             }
         }
+        //Note: We check if the errors are the same instance as updateErrors only replaces our errors if they actually changed
+        blocked = operations <= 0 && !errors.isEmpty() && errors == lastErrors;
         if (operations > 0) {
             setActive.accept(true);
             //Always use energy, as that is a constant thing we can check
@@ -338,6 +403,28 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
                 resetCache();
             }
         }
+        return operations;
+    }
+
+    /**
+     * Checks if this {@link CachedRecipe} is blocked by a stable set of {@link RecipeError}s, meaning the last two times it processed it was unable to perform any
+     * operations and ran into the same errors. While blocked, holders may skip calling {@link #process()} until something that affects the recipe changes and they call
+     * {@link #unblock()}.
+     *
+     * @return {@code true} if this {@link CachedRecipe} is blocked.
+     *
+     * @apiNote This will return {@code false} when {@link #recheckAllErrors} wants all the errors to be rechecked, so that the known errors are kept up to date.
+     */
+    public boolean isBlocked() {
+        return blocked && !recheckAllErrors.getAsBoolean();
+    }
+
+    /**
+     * Called by the holder of this {@link CachedRecipe} when any of the inputs, outputs, energy or other values affecting the recipe changes, so that
+     * {@link #process()} performs a full check again.
+     */
+    public void unblock() {
+        blocked = false;
     }
 
     /**
@@ -365,6 +452,14 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
     protected void useResources(int operations) {
     }
 
+    /**
+     * @return {@code true} if this {@link CachedRecipe} consumes resources in {@link #useResources(int)}, meaning that {@link #process(int)} has to check every tick if
+     * there are enough resources left.
+     */
+    protected boolean usesResourcesPerTick() {
+        return false;
+    }
+
     /**
      * Called when the recipe finishes processing or gets reset so that any values the implementation may be holding onto can be properly reset.
      */
@@ -104,6 +104,11 @@ public class ChemicalDissolutionCachedRecipe extends CachedRecipe<ChemicalDissol
         return false;
     }
 
+    @Override
+    protected boolean usesResourcesPerTick() {
+        return true;
+    }
+
     @Override
     protected void useResources(int operations) {
         super.useResources(operations);
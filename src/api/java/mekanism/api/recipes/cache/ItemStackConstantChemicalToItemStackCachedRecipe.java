@@ -126,6 +126,11 @@ public class ItemStackConstantChemicalToItemStackCachedRecipe<CHEMICAL extends C
         return false;
     }
 
+    @Override
+    protected boolean usesResourcesPerTick() {
+        return true;
+    }
+
     @Override
     protected void useResources(int operations) {
         super.useResources(operations);
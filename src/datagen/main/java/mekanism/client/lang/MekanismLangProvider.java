@@ -790,7 +790,15 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_FLUSH, "%1$s chunks unloaded.");
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
+        add(MekanismLang.COMMAND_CHUNK_LOADERS, "%1$s chunks are force loaded by %2$s chunk loaders. Costliest loaders:");
+        add(MekanismLang.COMMAND_CHUNK_LOADERS_ENTRY, " - %1$s in %2$s owned by %3$s: %4$s chunks, %5$s block entities, %6$s entities");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_SLEEPING, "Sleeping tiles within %1$s chunks: %2$s/%3$s");
+        add(MekanismLang.COMMAND_DEBUG_SLEEPING_ENTRY, " - %1$s: %2$s sleeping, %3$s awake");
+        add(MekanismLang.COMMAND_DEBUG_SAVES, "Last saved data writes (%1$s pending):");
+        add(MekanismLang.COMMAND_DEBUG_SAVES_ENTRY, " - %1$s: %2$s bytes in %3$s ms");
+        add(MekanismLang.COMMAND_DEBUG_TASKS, "Background tasks: %1$s queued, %2$s running, %3$s waiting to complete:");
+        add(MekanismLang.COMMAND_DEBUG_TASKS_ENTRY, " - %1$s: %2$s runs, %3$s ms average wait, %4$s ms average run time");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -809,6 +817,9 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RADIATION_REDUCE_TARGET, "Reduced entity radiation for %1$s by %2$s.");
         add(MekanismLang.COMMAND_RADIATION_REMOVE_ALL, "Removed all radiation sources.");
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
+        add(MekanismLang.COMMAND_RETROGEN_STATUS, "Retrogen progress:");
+        add(MekanismLang.COMMAND_RETROGEN_STATUS_ENTRY, " - %1$s: %2$s chunks processed, %3$s remaining, ores or salt added to %4$s");
+        add(MekanismLang.COMMAND_RETROGEN_STATUS_NONE, "No chunks are queued for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
         //Tooltip stuff
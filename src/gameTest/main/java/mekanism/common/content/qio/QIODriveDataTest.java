@@ -0,0 +1,198 @@
+package mekanism.common.content.qio;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import mekanism.api.Action;
+import mekanism.api.inventory.IInventorySlot;
+import mekanism.common.Mekanism;
+import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.inventory.slot.BasicInventorySlot;
+import mekanism.common.lib.frequency.TileComponentFrequency;
+import mekanism.common.registries.MekanismItems;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Checks that deferring writes to the drive's stack results in the same data being persisted as writing the metadata and item map to the stack after every change.
+ */
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class QIODriveDataTest {
+
+    private static final String TEMPLATE = "qio/empty";
+
+    @GameTest(template = TEMPLATE)
+    public static void deferredWritesOnRemoval(GameTestHelper helper) {
+        DriveTest test = new DriveTest(helper);
+        test.insert(Items.STONE, 100);
+        test.insert(Items.DIRT, 64);
+        test.tick();
+        test.remove(Items.STONE, 30);
+        test.insert(Items.COBBLESTONE, 12);
+        test.remove(Items.DIRT, 64);
+        test.tick();
+        //Changes that cancel out within a tick should leave the drive with the same metadata
+        test.insert(Items.STONE, 5);
+        test.remove(Items.STONE, 5);
+        test.tick();
+        test.insert(Items.GRAVEL, 7);
+        //Removing the drive, which is also what happens when the chunk unloads, writes everything to the stack even mid-tick
+        test.frequency.removeDrive(test.key, true);
+        test.assertMatches("removal");
+        helper.succeed();
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void deferredWritesOnSave(GameTestHelper helper) {
+        DriveTest test = new DriveTest(helper);
+        test.insert(Items.STONE, 100);
+        test.insert(Items.DIRT, 64);
+        test.remove(Items.DIRT, 10);
+        test.frequency.saveAll();
+        test.assertMatches("save");
+        //Saving again without any changes shouldn't change anything
+        test.frequency.saveAll();
+        test.assertMatches("second save");
+        helper.succeed();
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void deferredItemMapWrite(GameTestHelper helper) {
+        DriveTest test = new DriveTest(helper);
+        test.insert(Items.STONE, 100);
+        test.insert(Items.DIRT, 64);
+        test.tick();
+        test.remove(Items.STONE, 20);
+        test.tick();
+        //Simulate the periodic save writing the item map of the changed drive
+        if (!test.data.saveChanged(QIOGlobalItemLookup.INSTANCE::getOrTrackUUID)) {
+            helper.fail("Expected the changed drive to be saved");
+        }
+        test.assertMatches("periodic save");
+        if (test.data.hasUnsavedChanges()) {
+            helper.fail("Expected no unsaved changes after saving");
+        }
+        if (test.data.saveChanged(QIOGlobalItemLookup.INSTANCE::getOrTrackUUID)) {
+            helper.fail("Expected the unchanged drive to not be saved again");
+        }
+        helper.succeed();
+    }
+
+    private static class DriveTest {
+
+        private final GameTestHelper helper;
+        private final QIOFrequency frequency = new QIOFrequency("test", UUID.randomUUID());
+        private final TestDriveHolder holder;
+        private final QIODriveKey key;
+        private final QIODriveData data;
+        /**
+         * Copy of the drive that gets the metadata and item map written to it after every change.
+         */
+        private final ItemStack eager;
+
+        private DriveTest(GameTestHelper helper) {
+            this.helper = helper;
+            holder = new TestDriveHolder(helper, MekanismItems.BASE_QIO_DRIVE.getItemStack());
+            key = new QIODriveKey(holder, 0);
+            frequency.addDrive(key);
+            data = frequency.getDriveData(key);
+            if (data == null) {
+                helper.fail("Drive wasn't added to the frequency");
+            }
+            eager = holder.getDrive().copy();
+        }
+
+        private void insert(Item item, long amount) {
+            long inserted = frequency.massInsert(new ItemStack(item), amount, Action.EXECUTE);
+            if (inserted != amount) {
+                helper.fail("Expected to insert " + amount + " " + item + " but inserted " + inserted);
+            }
+            writeEager();
+        }
+
+        private void remove(Item item, int amount) {
+            int removed = frequency.removeItem(new ItemStack(item), amount).getCount();
+            if (removed != amount) {
+                helper.fail("Expected to remove " + amount + " " + item + " but removed " + removed);
+            }
+            writeEager();
+        }
+
+        /**
+         * Writes the drive's data to the copy the way adding and removing items used to, after every change.
+         */
+        private void writeEager() {
+            new DriveMetadata(data.getTotalCount(), data.getTotalTypes()).write(eager);
+            ((IQIODriveItem) eager.getItem()).writeItemMap(eager, data);
+        }
+
+        /**
+         * Simulates the end of a tick, which flushes the metadata but leaves the item map to be written later.
+         */
+        private void tick() {
+            data.flushMetadata();
+            DriveMetadata expected = DriveMetadata.load(eager);
+            DriveMetadata actual = DriveMetadata.load(holder.getDrive());
+            if (!expected.equals(actual)) {
+                helper.fail("Expected metadata " + expected + " after the tick but found " + actual);
+            }
+        }
+
+        private void assertMatches(String stage) {
+            if (!Objects.equals(eager.getTag(), holder.getDrive().getTag())) {
+                helper.fail("Drive data after " + stage + " doesn't match writing after every change. Expected: " + eager.getTag() + ", found: " +
+                            holder.getDrive().getTag());
+            }
+        }
+    }
+
+    private static class TestDriveHolder implements IQIODriveHolder {
+
+        private final GameTestHelper helper;
+        private final List<IInventorySlot> driveSlots;
+
+        private TestDriveHolder(GameTestHelper helper, ItemStack drive) {
+            this.helper = helper;
+            IInventorySlot slot = BasicInventorySlot.at(null, 0, 0);
+            slot.setStack(drive);
+            driveSlots = List.of(slot);
+        }
+
+        private ItemStack getDrive() {
+            return driveSlots.get(0).getStack();
+        }
+
+        @Override
+        public List<IInventorySlot> getDriveSlots() {
+            return driveSlots;
+        }
+
+        @Override
+        public void onDataUpdate() {
+        }
+
+        @Override
+        public TileComponentFrequency getFrequencyComponent() {
+            throw new UnsupportedOperationException("Test drive holders don't have a frequency component");
+        }
+
+        @Override
+        public BlockPos getTilePos() {
+            return helper.absolutePos(BlockPos.ZERO);
+        }
+
+        @Override
+        public Level getTileWorld() {
+            return helper.getLevel();
+        }
+    }
+}
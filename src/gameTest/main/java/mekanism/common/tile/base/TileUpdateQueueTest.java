@@ -0,0 +1,116 @@
+package mekanism.common.tile.base;
+
+import mekanism.common.Mekanism;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.TileEntityFluidTank;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Checks that players which got the tile's data at different times all end up with the same data as the tile from the updates sent by the {@link TileUpdateQueue}.
+ */
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class TileUpdateQueueTest {
+
+    private static final String TEMPLATE = "tile/empty";
+
+    @GameTest(template = TEMPLATE)
+    public static void trackerJoinsBetweenUpdates(GameTestHelper helper) {
+        UpdateTest test = new UpdateTest(helper);
+        Client existing = new Client();
+        existing.receiveFull(test.tile.getUpdateTag());
+        test.setAmount(1_000);
+        //The update tag was just sent to a player, so the next update has to be a full update
+        TileUpdate update = test.assertFull("first update");
+        existing.receive(update);
+        test.assertMatches(existing, "first update");
+
+        //The amount changes without the tile's update being flushed, and then a new player starts tracking the tile and gets sent the full update tag
+        test.setAmount(2_000);
+        Client joined = new Client();
+        joined.receiveFull(test.tile.getUpdateTag());
+        test.assertMatches(joined, "starting to track the tile");
+
+        //The amount changes back to what was in the last flushed update, which wouldn't be part of an update that only contained the changes
+        test.setAmount(1_000);
+        update = test.assertFull("new tracker");
+        existing.receive(update);
+        joined.receive(update);
+        test.assertMatches(existing, "new tracker");
+        test.assertMatches(joined, "new tracker");
+
+        //Once everyone has the same baseline again, only what changed gets sent
+        test.setAmount(3_000);
+        update = TileUpdateQueue.createUpdate(test.tile);
+        if (update.removedKeys() == null) {
+            helper.fail("Expected an update that only contains the changes once all players have the same baseline");
+        }
+        existing.receive(update);
+        joined.receive(update);
+        test.assertMatches(existing, "delta");
+        test.assertMatches(joined, "delta");
+        if (!TileUpdateQueue.createUpdate(test.tile).isEmpty()) {
+            helper.fail("Expected an empty update when nothing changed");
+        }
+        helper.succeed();
+    }
+
+    private static class UpdateTest {
+
+        private final GameTestHelper helper;
+        private final TileEntityFluidTank tile;
+
+        private UpdateTest(GameTestHelper helper) {
+            this.helper = helper;
+            helper.setBlock(BlockPos.ZERO, MekanismBlocks.BASIC_FLUID_TANK.getBlock());
+            tile = helper.getBlockEntity(BlockPos.ZERO);
+        }
+
+        private void setAmount(int amount) {
+            tile.fluidTank.setStack(new FluidStack(Fluids.WATER, amount));
+        }
+
+        private TileUpdate assertFull(String stage) {
+            TileUpdate update = TileUpdateQueue.createUpdate(tile);
+            if (update.removedKeys() != null) {
+                helper.fail("Expected a full update after " + stage);
+            }
+            return update;
+        }
+
+        private void assertMatches(Client client, String stage) {
+            CompoundTag expected = tile.getReducedUpdateTag();
+            if (!expected.equals(client.data)) {
+                helper.fail("Client data after " + stage + " doesn't match the tile. Expected: " + expected + ", found: " + client.data);
+            }
+        }
+    }
+
+    /**
+     * Keeps track of the data a player tracking the tile has, the same way {@link TileEntityUpdateable#handleSyncedUpdate(TileUpdate)} does.
+     */
+    private static class Client {
+
+        @Nullable
+        private CompoundTag data;
+
+        private void receiveFull(CompoundTag tag) {
+            data = tag;
+        }
+
+        private void receive(TileUpdate update) {
+            if (!update.isEmpty()) {
+                data = update.apply(data);
+            }
+        }
+    }
+}
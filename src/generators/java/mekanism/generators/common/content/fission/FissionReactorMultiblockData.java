@@ -3,7 +3,6 @@ package mekanism.generators.common.content.fission;
 import com.mojang.datafixers.util.Either;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.LongSupplier;
 import mekanism.api.Action;
@@ -48,7 +47,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.util.Mth;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
@@ -416,14 +414,8 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     private void radiateEntities(Level world) {
         IRadiationManager radiationManager = IRadiationManager.INSTANCE;
         if (radiationManager.isRadiationEnabled() && isBurning() && world.getRandom().nextInt() % 20 == 0) {
-            List<LivingEntity> entitiesToRadiate = getWorld().getEntitiesOfClass(LivingEntity.class, hotZone);
-            if (!entitiesToRadiate.isEmpty()) {
-                double wasteRadiation = getWasteTankRadioactivity(false) / 3_600F; // divide down to Sv/s
-                double magnitude = lastBurnRate + wasteRadiation;
-                for (LivingEntity entity : entitiesToRadiate) {
-                    radiationManager.radiate(entity, magnitude);
-                }
-            }
+            double wasteRadiation = getWasteTankRadioactivity(false) / 3_600F; // divide down to Sv/s
+            radiationManager.radiate(world, hotZone, lastBurnRate + wasteRadiation);
         }
     }
 
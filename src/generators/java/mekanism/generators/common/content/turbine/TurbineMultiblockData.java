@@ -17,6 +17,7 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.listener.ConfigBasedCachedSupplier;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerChemicalTankWrapper;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
@@ -40,11 +41,19 @@ import net.minecraft.world.level.material.Fluids;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class TurbineMultiblockData extends MultiblockData {
 
     public static final float ROTATION_THRESHOLD = 0.001F;
     public static final Object2FloatMap<UUID> clientRotationMap = new Object2FloatOpenHashMap<>();
+    private static final ConfigBasedCachedSupplier<TurbinePhysics.Settings> PHYSICS_SETTINGS = new ConfigBasedCachedSupplier<>(
+          () -> new TurbinePhysics.Settings(MekanismConfig.general.maxEnergyPerSteam.get(), MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get(),
+                MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get(), MekanismGeneratorsConfig.generators.turbineVentGasFlow.get(),
+                MekanismGeneratorsConfig.generators.turbineGasPerTank.get(), MekanismGeneratorsConfig.generators.condenserRate.get()),
+          MekanismConfig.general.maxEnergyPerSteam, MekanismGeneratorsConfig.generators.turbineBladesPerCoil, MekanismGeneratorsConfig.generators.turbineDisperserGasFlow,
+          MekanismGeneratorsConfig.generators.turbineVentGasFlow, MekanismGeneratorsConfig.generators.turbineGasPerTank, MekanismGeneratorsConfig.generators.condenserRate
+    );
 
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getSteam", "getSteamCapacity", "getSteamNeeded", "getSteamFilledPercentage"}, docPlaceholder = "steam tank")
@@ -89,6 +98,9 @@ public class TurbineMultiblockData extends MultiblockData {
     public float clientRotation;
     public float prevSteamScale;
 
+    @Nullable
+    private TurbinePhysics physics;
+
     public TurbineMultiblockData(TileEntityTurbineCasing tile) {
         super(tile);
         gasTanks.add(gasTank = new TurbineGasTank(this, createSaveAndComparator()));
@@ -124,23 +136,18 @@ public class TurbineMultiblockData extends MultiblockData {
 
         FloatingLong energyNeeded = energyContainer.getNeeded();
         if (stored > 0 && !energyNeeded.isZero()) {
-            FloatingLong energyMultiplier = MekanismConfig.general.maxEnergyPerSteam.get().divide(TurbineValidator.MAX_BLADES)
-                  .multiply(Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-            if (energyMultiplier.isZero()) {
-                clientFlow = 0;
-            } else {
-                double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-                rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
-                double proportion = stored / (double) getSteamCapacity();
-                double origRate = rate;
-                rate = Math.min(Math.min(stored, rate), energyNeeded.divide(energyMultiplier).doubleValue()) * proportion;
+            TurbinePhysics physics = getPhysics();
+            if (physics.canProduce()) {
+                double rate = physics.getFlowRate(stored, energyNeeded);
                 clientFlow = MathUtils.clampToLong(rate);
                 if (clientFlow > 0) {
-                    flowRate = rate / origRate;
-                    energyContainer.insert(energyMultiplier.multiply(rate), Action.EXECUTE, AutomationType.INTERNAL);
+                    flowRate = rate / physics.getMaxFlow();
+                    energyContainer.insert(physics.getProduction(rate), Action.EXECUTE, AutomationType.INTERNAL);
                     gasTank.shrinkStack(clientFlow, Action.EXECUTE);
-                    ventTank.setStack(new FluidStack(Fluids.WATER, Math.min(MathUtils.clampToInt(rate), condensers * MekanismGeneratorsConfig.generators.condenserRate.get())));
+                    ventTank.setStack(new FluidStack(Fluids.WATER, physics.getWaterOutput(rate)));
                 }
+            } else {
+                clientFlow = 0;
             }
         } else {
             clientFlow = 0;
@@ -177,6 +184,24 @@ public class TurbineMultiblockData extends MultiblockData {
         return Math.min(stored, Math.max(stored / 50, lastSteamInput * 2));
     }
 
+    @Override
+    public void onCreated(Level world) {
+        super.onCreated(world);
+        //Recalculate the physics constants now that the validator has counted the components of the turbine
+        physics = null;
+    }
+
+    /**
+     * @return Constants of this turbine's physics, recalculating them if the turbine or the config has changed since they were last calculated.
+     */
+    private TurbinePhysics getPhysics() {
+        TurbinePhysics.Settings settings = PHYSICS_SETTINGS.get();
+        if (physics == null || physics.getSettings() != settings) {
+            physics = new TurbinePhysics(settings, blades, coils, vents, condensers, lowerVolume, getDispersers());
+        }
+        return physics;
+    }
+
     public void updateVentData(List<VentData> vents) {
         this.ventData = vents;
         this.vents = this.ventData.size();
@@ -234,25 +259,17 @@ public class TurbineMultiblockData extends MultiblockData {
 
     @ComputerMethod
     public FloatingLong getProductionRate() {
-        FloatingLong energyMultiplier = MekanismConfig.general.maxEnergyPerSteam.get().divide(TurbineValidator.MAX_BLADES)
-              .multiply(Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-        return energyMultiplier.multiply(clientFlow);
+        return getPhysics().getEnergyMultiplier().multiply(clientFlow);
     }
 
     @ComputerMethod
     public FloatingLong getMaxProduction() {
-        FloatingLong energyMultiplier = MekanismConfig.general.maxEnergyPerSteam.get().divide(TurbineValidator.MAX_BLADES)
-              .multiply(Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-        rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
-        return energyMultiplier.multiply(rate);
+        return getPhysics().getProduction(getPhysics().getMaxFlow());
     }
 
     @ComputerMethod
     public long getMaxFlowRate() {
-        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-        rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
-        return MathUtils.clampToLong(rate);
+        return MathUtils.clampToLong(getPhysics().getMaxFlow());
     }
 
     @ComputerMethod
@@ -0,0 +1,102 @@
+package mekanism.generators.common.content.turbine;
+
+import mekanism.api.math.FloatingLong;
+import mekanism.api.math.MathUtils;
+
+/**
+ * Per-structure constants of an Industrial Turbine, calculated once when the turbine forms (or the config changes) so that the per-tick step only has to deal with
+ * primitives.
+ */
+public final class TurbinePhysics {
+
+    private final Settings settings;
+    private final FloatingLong energyMultiplier;
+    private final double energyMultiplierValue;
+    private final double maxFlow;
+    private final long steamCapacity;
+    private final int maxWaterOutput;
+
+    public TurbinePhysics(Settings settings, int blades, int coils, int vents, int condensers, int lowerVolume, int dispersers) {
+        this.settings = settings;
+        this.energyMultiplier = settings.maxEnergyPerSteam().divide(TurbineValidator.MAX_BLADES).multiply(Math.min(blades, coils * settings.bladesPerCoil())).copyAsConst();
+        this.energyMultiplierValue = energyMultiplier.doubleValue();
+        double rate = lowerVolume * (dispersers * settings.disperserGasFlow());
+        this.maxFlow = Math.min(rate, vents * settings.ventGasFlow());
+        this.steamCapacity = lowerVolume * settings.gasPerTank();
+        this.maxWaterOutput = condensers * settings.condenserRate();
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @return {@code true} if the turbine has enough blades and coils to produce any energy.
+     */
+    public boolean canProduce() {
+        return !energyMultiplier.isZero();
+    }
+
+    /**
+     * @return Energy produced per mB of steam.
+     */
+    public FloatingLong getEnergyMultiplier() {
+        return energyMultiplier;
+    }
+
+    /**
+     * @return Maximum amount of steam that can flow through the turbine per tick, limited by the dispersers and vents.
+     */
+    public double getMaxFlow() {
+        return maxFlow;
+    }
+
+    public long getSteamCapacity() {
+        return steamCapacity;
+    }
+
+    public int getMaxWaterOutput() {
+        return maxWaterOutput;
+    }
+
+    /**
+     * Calculates how much steam flows through the turbine this tick.
+     *
+     * @param stored       Amount of steam stored in the turbine.
+     * @param energyNeeded Amount of energy the turbine has room to store, must not be zero.
+     *
+     * @return Amount of steam that flows this tick, may be fractional.
+     *
+     * @implNote Only call this when {@link #canProduce()} is {@code true}.
+     */
+    public double getFlowRate(long stored, FloatingLong energyNeeded) {
+        double proportion = stored / (double) steamCapacity;
+        double rate = Math.min(stored, maxFlow);
+        //Dividing floating longs is expensive, so only do it when the energy that is needed may actually limit the rate. The margin
+        // is large enough to make sure the floating long division would return a larger value than the rate as well
+        if (energyNeeded.doubleValue() / energyMultiplierValue <= rate * 1.000_001 + 1) {
+            rate = Math.min(rate, energyNeeded.divide(energyMultiplier).doubleValue());
+        }
+        return rate * proportion;
+    }
+
+    /**
+     * @return Energy produced by the given amount of steam flowing through the turbine.
+     */
+    public FloatingLong getProduction(double flow) {
+        return energyMultiplier.multiply(flow);
+    }
+
+    /**
+     * @return Amount of water the condensers produce from the given amount of steam flowing through the turbine.
+     */
+    public int getWaterOutput(double flow) {
+        return Math.min(MathUtils.clampToInt(flow), maxWaterOutput);
+    }
+
+    /**
+     * Config values that are shared by all turbines.
+     */
+    public record Settings(FloatingLong maxEnergyPerSteam, int bladesPerCoil, double disperserGasFlow, double ventGasFlow, long gasPerTank, int condenserRate) {
+    }
+}
@@ -1,6 +1,7 @@
 package mekanism.generators.common.content.turbine;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.List;
@@ -174,8 +175,11 @@ public class TurbineValidator extends CuboidStructureValidator<TurbineMultiblock
         }
 
         List<VentData> ventData = new ArrayList<>();
-        for (BlockPos coord : structure.locations) {
-            if (WorldUtils.getTileEntity(TileEntityTurbineVent.class, world, chunkMap, coord) != null) {
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        for (LongIterator iter = structure.locations.longIterator(); iter.hasNext(); ) {
+            mutablePos.set(iter.nextLong());
+            if (WorldUtils.getTileEntity(TileEntityTurbineVent.class, world, chunkMap, mutablePos) != null) {
+                BlockPos coord = mutablePos.immutable();
                 if (coord.getY() < complex.getY()) {
                     return FormationResult.fail(GeneratorsLang.TURBINE_INVALID_VENT_BELOW_COMPLEX, coord);
                 }
@@ -1,8 +1,5 @@
 package mekanism.client.model.data;
 
-import java.util.EnumMap;
-import java.util.Map;
-import java.util.Objects;
 import mekanism.client.model.data.TransmitterModelData.Diversion;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.util.EnumUtils;
@@ -10,19 +7,31 @@ import net.minecraft.core.Direction;
 
 public sealed class TransmitterModelData permits Diversion {
 
-    private final Map<Direction, ConnectionType> connections = new EnumMap<>(Direction.class);
+    private static final int BITS_PER_SIDE = 2;
+    private static final int SIDE_MASK = (1 << BITS_PER_SIDE) - 1;
+    /**
+     * Number of distinct values {@link #getConnections()} can have.
+     */
+    public static final int CONNECTION_STATES = 1 << (BITS_PER_SIDE * EnumUtils.DIRECTIONS.length);
+
+    //Note: Defaults to every side having a connection type of NONE
+    private int connections = CONNECTION_STATES - 1;
     private boolean hasColor;
 
     public void setConnectionData(Direction direction, ConnectionType connectionType) {
-        connections.put(direction, connectionType);
+        int shift = direction.ordinal() * BITS_PER_SIDE;
+        connections = (connections & ~(SIDE_MASK << shift)) | (connectionType.ordinal() << shift);
     }
 
-    public Map<Direction, ConnectionType> getConnectionsMap() {
+    /**
+     * @return The connection types of all sides packed into a single int between zero and {@link #CONNECTION_STATES}.
+     */
+    public int getConnections() {
         return connections;
     }
 
     public ConnectionType getConnectionType(Direction side) {
-        return connections.get(side);
+        return ConnectionType.byIndexStatic((connections >> (side.ordinal() * BITS_PER_SIDE)) & SIDE_MASK);
     }
 
     public void setHasColor(boolean hasColor) {
@@ -38,7 +47,7 @@ public sealed class TransmitterModelData permits Diversion {
             return false;
         }
         for (int i = 0; i < types.length; i++) {
-            if (connections.get(EnumUtils.DIRECTIONS[i]) != types[i]) {
+            if (getConnectionType(EnumUtils.DIRECTIONS[i]) != types[i]) {
                 return false;
             }
         }
@@ -50,12 +59,12 @@ public sealed class TransmitterModelData permits Diversion {
         if (o == this) {
             return true;
         }
-        return o instanceof TransmitterModelData other && hasColor == other.hasColor && connections.equals(other.connections);
+        return o instanceof TransmitterModelData other && hasColor == other.hasColor && connections == other.connections;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(connections, hasColor);
+        return 31 * connections + Boolean.hashCode(hasColor);
     }
 
     public static final class Diversion extends TransmitterModelData {
@@ -1,14 +1,9 @@
 package mekanism.client.render;
 
-import it.unimi.dsi.fastutil.floats.Float2ObjectMap;
-import it.unimi.dsi.fastutil.floats.Float2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Map;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.data.RenderData;
 import mekanism.client.render.data.ValveRenderData;
+import mekanism.client.render.lib.ModelCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraftforge.fluids.FluidStack;
@@ -21,8 +16,33 @@ public final class ModelRenderer {
 
     private static final int BLOCK_STAGES = 1_000;
 
-    private static final Map<RenderData, Int2ObjectMap<Model3D>> cachedCenterData = new Object2ObjectOpenHashMap<>();
-    private static final Map<ValveRenderData, Float2ObjectMap<Model3D>> cachedValveFluids = new Object2ObjectOpenHashMap<>();
+    private static final ModelCache<CenterKey, Model3D> cachedCenterData = new ModelCache<>("Multiblock Contents", key -> new Model3D()
+          .setTexture(key.data().getTexture())
+          .xBounds(0.01F, key.data().length - 0.02F)
+          .yBounds(0.01F, key.data().height * (key.stage() / (float) key.maxStages()) - 0.02F)
+          .zBounds(0.01F, key.data().width - 0.02F)
+    );
+    private static final ModelCache<ValveKey, Model3D> cachedValveFluids = new ModelCache<>("Multiblock Valve Fluids", key -> {
+        ValveRenderData data = key.data();
+        float fluidHeight = key.height();
+        Model3D model = new Model3D()
+              .prepFlowing(data.fluidType)
+              .setSideRender(Direction.DOWN, fluidHeight == 0)
+              .xBounds(0.3F, 0.7F)
+              .zBounds(0.3F, 0.7F);
+        Direction side = data.getSide();
+        if (side.getAxis().isHorizontal()) {
+            model.yBounds(fluidHeight - data.getValveFluidHeight() + 0.01F, 0.7F);
+        }
+        return switch (side) {
+            case DOWN -> model.yBounds(fluidHeight + 1.01F, 1.5F);
+            case UP -> model.yBounds(fluidHeight - data.height - 0.01F, -0.01F);
+            case NORTH -> model.zBounds(1.02F, 1.4F);
+            case SOUTH -> model.zBounds(-0.4F, -0.03F);
+            case WEST -> model.xBounds(1.02F, 1.4F);
+            case EAST -> model.xBounds(-0.4F, -0.03F);
+        };
+    });
 
     public static int getStage(FluidStack stack, int stages, double scale) {
         return getStage(MekanismUtils.lighterThanAirGas(stack), stages, scale);
@@ -49,13 +69,7 @@ public final class ModelRenderer {
         } else {
             stage = Math.min(maxStages, (int) (scale * maxStages));
         }
-        return cachedCenterData.computeIfAbsent(data, d -> new Int2ObjectOpenHashMap<>())
-              .computeIfAbsent(stage, s -> new Model3D()
-                    .setTexture(data.getTexture())
-                    .xBounds(0.01F, data.length - 0.02F)
-                    .yBounds(0.01F, data.height * (s / (float) maxStages) - 0.02F)
-                    .zBounds(0.01F, data.width - 0.02F)
-              );
+        return cachedCenterData.get(new CenterKey(data, stage, maxStages));
     }
 
     //Undoes the z-fighting height shift from the model
@@ -72,30 +86,20 @@ public final class ModelRenderer {
         }) {
             return null;
         }
-        return cachedValveFluids.computeIfAbsent(data, d -> new Float2ObjectOpenHashMap<>())
-              .computeIfAbsent(height, fluidHeight -> {
-                  Model3D model = new Model3D()
-                        .prepFlowing(data.fluidType)
-                        .setSideRender(Direction.DOWN, fluidHeight == 0)
-                        .xBounds(0.3F, 0.7F)
-                        .zBounds(0.3F, 0.7F);
-                  Direction side = data.getSide();
-                  if (side.getAxis().isHorizontal()) {
-                      model.yBounds(fluidHeight - data.getValveFluidHeight() + 0.01F, 0.7F);
-                  }
-                  return switch (side) {
-                      case DOWN -> model.yBounds(fluidHeight + 1.01F, 1.5F);
-                      case UP -> model.yBounds(fluidHeight - data.height - 0.01F, -0.01F);
-                      case NORTH -> model.zBounds(1.02F, 1.4F);
-                      case SOUTH -> model.zBounds(-0.4F, -0.03F);
-                      case WEST -> model.xBounds(1.02F, 1.4F);
-                      case EAST -> model.xBounds(-0.4F, -0.03F);
-                  };
-              });
+        return cachedValveFluids.get(new ValveKey(data, height));
     }
 
     public static void resetCachedModels() {
         cachedCenterData.clear();
         cachedValveFluids.clear();
     }
+
+    /**
+     * @param maxStages Derived from the data, but needed to create the model.
+     */
+    private record CenterKey(RenderData data, int stage, int maxStages) {
+    }
+
+    private record ValveKey(ValveRenderData data, float height) {
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package mekanism.client.render;
 
+import com.google.common.cache.CacheStats;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import java.util.ArrayList;
@@ -7,6 +8,7 @@ import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -20,6 +22,7 @@ import mekanism.client.render.RenderResizableCuboid.FaceDisplay;
 import mekanism.client.render.armor.ISpecialGear;
 import mekanism.client.render.armor.MekaSuitArmor;
 import mekanism.client.render.hud.RadiationOverlay;
+import mekanism.client.render.lib.ModelCache;
 import mekanism.client.render.lib.Quad;
 import mekanism.client.render.lib.QuadUtils;
 import mekanism.client.render.lib.Vertex;
@@ -79,6 +82,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult.Type;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderArmEvent;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderHighlightEvent;
@@ -100,7 +104,19 @@ public class RenderTickHandler {
 
     public final Minecraft minecraft = Minecraft.getInstance();
 
-    private static final Map<BlockState, List<Vertex[]>> cachedWireFrames = new HashMap<>();
+    private static final ModelCache<BlockState, List<Vertex[]>> cachedWireFrames = new ModelCache<>("Wire Frames", state -> {
+        BakedModel bakedModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(state);
+        //TODO: Eventually we may want to add support for Model data and maybe render type
+        ModelData modelData = ModelData.EMPTY;
+        //Note: We just use a new random source as the wire frame is cached per state regardless of the random source
+        RandomSource rand = RandomSource.create();
+        List<Vertex[]> vertices = new ArrayList<>();
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            QuadUtils.unpack(bakedModel.getQuads(state, direction, rand, modelData, null)).stream().map(Quad::getVertices).forEach(vertices::add);
+        }
+        QuadUtils.unpack(bakedModel.getQuads(state, null, rand, modelData, null)).stream().map(Quad::getVertices).forEach(vertices::add);
+        return vertices;
+    });
     private static final Map<Direction, Map<TransmissionType, Model3D>> cachedOverlays = new EnumMap<>(Direction.class);
     private static final Map<RenderType, List<LazyRender>> transparentRenderers = new HashMap<>();
     private static final BoltRenderer boltRenderer = new BoltRenderer();
@@ -137,6 +153,20 @@ public class RenderTickHandler {
         transparentRenderers.computeIfAbsent(renderType, r -> new ArrayList<>()).add(render);
     }
 
+    @SubscribeEvent
+    public void renderDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (minecraft.options.renderDebug) {
+            List<String> right = event.getRight();
+            right.add("");
+            right.add("Mekanism Model Caches");
+            for (ModelCache.Stats stats : ModelCache.getStats()) {
+                CacheStats cacheStats = stats.stats();
+                right.add(String.format(Locale.ROOT, "%s: %d (%d caches), %.1f%% hits, %d misses, %d evicted", stats.name(), stats.size(), stats.instances(),
+                      100 * cacheStats.hitRate(), cacheStats.missCount(), cacheStats.evictionCount()));
+            }
+        }
+    }
+
     @SubscribeEvent
     public void renderWorld(RenderLevelStageEvent event) {
         if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
@@ -406,7 +436,7 @@ public class RenderTickHandler {
                             if (tileRenderer instanceof IWireFrameRenderer wireFrameRenderer && wireFrameRenderer.hasSelectionBox(actualState)) {
                                 renderWireFrame = (buffer, matrixStack, state, red, green, blue, alpha) -> {
                                     if (wireFrameRenderer.isCombined()) {
-                                        renderQuadsWireFrame(state, buffer, matrixStack.last().pose(), world.random, red, green, blue, alpha);
+                                        renderQuadsWireFrame(state, buffer, matrixStack.last().pose(), red, green, blue, alpha);
                                     }
                                     wireFrameRenderer.renderWireFrame(tile, event.getPartialTick(), matrixStack, buffer, red, green, blue, alpha);
                                 };
@@ -415,7 +445,7 @@ public class RenderTickHandler {
                     } else {
                         //Otherwise, skip getting the tile and just grab the model
                         renderWireFrame = (buffer, matrixStack, state, red, green, blue, alpha) ->
-                              renderQuadsWireFrame(state, buffer, matrixStack.last().pose(), world.random, red, green, blue, alpha);
+                              renderQuadsWireFrame(state, buffer, matrixStack.last().pose(), red, green, blue, alpha);
                     }
                     if (renderWireFrame != null) {
                         matrix.pushPose();
@@ -470,19 +500,8 @@ public class RenderTickHandler {
         }
     }
 
-    private void renderQuadsWireFrame(BlockState state, VertexConsumer buffer, Matrix4f matrix, RandomSource rand, int red, int green, int blue, int alpha) {
-        List<Vertex[]> allVertices = cachedWireFrames.computeIfAbsent(state, s -> {
-            BakedModel bakedModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(s);
-            //TODO: Eventually we may want to add support for Model data and maybe render type
-            ModelData modelData = ModelData.EMPTY;
-            List<Vertex[]> vertices = new ArrayList<>();
-            for (Direction direction : EnumUtils.DIRECTIONS) {
-                QuadUtils.unpack(bakedModel.getQuads(s, direction, rand, modelData, null)).stream().map(Quad::getVertices).forEach(vertices::add);
-            }
-            QuadUtils.unpack(bakedModel.getQuads(s, null, rand, modelData, null)).stream().map(Quad::getVertices).forEach(vertices::add);
-            return vertices;
-        });
-        renderVertexWireFrame(allVertices, buffer, matrix, red, green, blue, alpha);
+    private void renderQuadsWireFrame(BlockState state, VertexConsumer buffer, Matrix4f matrix, int red, int green, int blue, int alpha) {
+        renderVertexWireFrame(cachedWireFrames.get(state), buffer, matrix, red, green, blue, alpha);
     }
 
     public static void renderVertexWireFrame(List<Vertex[]> allVertices, VertexConsumer buffer, Matrix4f matrix, int red, int green, int blue, int alpha) {
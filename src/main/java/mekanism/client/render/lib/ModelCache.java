@@ -0,0 +1,103 @@
+package mekanism.client.render.lib;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Bounded cache for client side models. The least recently used entries get evicted once the cache reaches the configured size, and the hits and misses of all model
+ * caches are tracked so that they can be shown on the debug screen.
+ */
+public class ModelCache<K, V> {
+
+    private static final CacheStats EMPTY_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+    private static final Map<String, List<WeakReference<ModelCache<?, ?>>>> CACHES = new LinkedHashMap<>();
+
+    private final String name;
+    private final CacheLoader<K, V> loader;
+    private volatile LoadingCache<K, V> cache;
+    private CacheStats previousStats = EMPTY_STATS;
+
+    /**
+     * @param name   Name to group the stats of this cache under. Caches that are created per model instance should all use the same name.
+     * @param loader Function to create the value for a key that isn't cached. Must not return {@code null}.
+     */
+    public ModelCache(String name, Function<K, V> loader) {
+        this.name = name;
+        this.loader = CacheLoader.from(loader::apply);
+        this.cache = build();
+        synchronized (CACHES) {
+            CACHES.computeIfAbsent(name, n -> new ArrayList<>()).add(new WeakReference<>(this));
+        }
+    }
+
+    private LoadingCache<K, V> build() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+              .maximumSize(MekanismConfig.client.modelCacheSize.getOrDefault())
+              .recordStats();
+        if (MekanismConfig.client.softModelCaches.getOrDefault()) {
+            builder.softValues();
+        }
+        return builder.build(loader);
+    }
+
+    public V get(K key) {
+        return cache.getUnchecked(key);
+    }
+
+    /**
+     * Clears the cache, and applies any changes to the configured size of the cache.
+     */
+    public synchronized void clear() {
+        previousStats = previousStats.plus(cache.stats());
+        cache = build();
+    }
+
+    private synchronized CacheStats stats() {
+        return previousStats.plus(cache.stats());
+    }
+
+    /**
+     * @return The combined stats of all live caches with each name.
+     */
+    public static List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        synchronized (CACHES) {
+            for (Iterator<Map.Entry<String, List<WeakReference<ModelCache<?, ?>>>>> iter = CACHES.entrySet().iterator(); iter.hasNext(); ) {
+                Map.Entry<String, List<WeakReference<ModelCache<?, ?>>>> entry = iter.next();
+                int instances = 0;
+                long size = 0;
+                CacheStats cacheStats = EMPTY_STATS;
+                for (Iterator<WeakReference<ModelCache<?, ?>>> refIter = entry.getValue().iterator(); refIter.hasNext(); ) {
+                    ModelCache<?, ?> modelCache = refIter.next().get();
+                    if (modelCache == null) {
+                        //Clean up any caches that belonged to models that no longer exist, for example from before resources were reloaded
+                        refIter.remove();
+                    } else {
+                        instances++;
+                        size += modelCache.cache.size();
+                        cacheStats = cacheStats.plus(modelCache.stats());
+                    }
+                }
+                if (instances == 0) {
+                    iter.remove();
+                } else {
+                    stats.add(new Stats(entry.getKey(), instances, size, cacheStats));
+                }
+            }
+        }
+        return stats;
+    }
+
+    public record Stats(String name, int instances, long size, CacheStats stats) {
+    }
+}
@@ -1,17 +1,16 @@
 package mekanism.client.render.obj;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.mojang.math.Transformation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.client.model.data.TransmitterModelData;
+import mekanism.client.render.lib.ModelCache;
 import mekanism.client.render.obj.TransmitterModelConfiguration.IconStatus;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -54,27 +53,16 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
     private final ModelState modelTransform;
     private final ItemOverrides overrides;
     private final ResourceLocation modelLocation;
-    private final LoadingCache<SidedConnection, List<BakedQuad>> internalPartsCache;
+    private final ModelCache<SidedConnection, List<BakedQuad>> internalPartsCache;
     @Nullable
-    private final LoadingCache<SidedConnection, List<BakedQuad>> glassPartsCache;
+    private final ModelCache<SidedConnection, List<BakedQuad>> glassPartsCache;
     //TODO: Debate making transmitter models actually have cleanup code and have them also add listeners for opaque transmitters so that when the config
     // changes then these update accordingly
-    private final LoadingCache<TransmitterDataKey, List<BakedQuad>> cache = CacheBuilder.newBuilder().build(new CacheLoader<>() {
-        @NotNull
-        @Override
-        public List<BakedQuad> load(@NotNull TransmitterDataKey key) {
-            //Glass cache should never be null if we have renderGlass as true
-            LoadingCache<SidedConnection, List<BakedQuad>> partsCache = key.renderGlass ? Objects.requireNonNull(glassPartsCache) : internalPartsCache;
-            List<BakedQuad> quads = new ArrayList<>();
-            for (Direction side : EnumUtils.DIRECTIONS) {
-                ConnectionType connectionType = key.data.getConnectionType(side);
-                IconStatus iconStatus = TransmitterModelConfiguration.getIconStatus(key.data, side, connectionType);
-                SidedConnection sidedConnection = new SidedConnection(side, connectionType, iconStatus);
-                quads.addAll(partsCache.getUnchecked(sidedConnection));
-            }
-            return quads;
-        }
-    });
+    /**
+     * Quads for each combination of connections, indexed by the packed connections shifted left by one, with the lowest bit being whether it is the glass. This is
+     * filled lazily, and as it has an entry for every possible combination it doesn't need to be bounded.
+     */
+    private final AtomicReferenceArray<List<BakedQuad>> quadTable = new AtomicReferenceArray<>(TransmitterModelData.CONNECTION_STATES << 1);
 
     public TransmitterBakedModel(ObjModel internal, @Nullable ObjModel glass, IGeometryBakingContext owner, ModelBaker baker,
           Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelTransform, ItemOverrides overrides, ResourceLocation modelLocation) {
@@ -87,8 +75,8 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
         this.modelTransform = modelTransform;
         this.overrides = overrides;
         this.modelLocation = modelLocation;
-        this.internalPartsCache = CacheBuilder.newBuilder().build(createPartCacheLoader(internal));
-        this.glassPartsCache = glass == null ? null : CacheBuilder.newBuilder().build(createPartCacheLoader(glass));
+        this.internalPartsCache = new ModelCache<>("Transmitter Parts", createPartLoader(internal));
+        this.glassPartsCache = glass == null ? null : new ModelCache<>("Transmitter Parts", createPartLoader(glass));
     }
 
     @Override
@@ -110,7 +98,14 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
                 //Skip rendering the glass if we don't actually have any glass, or we don't have a color for it
                 return Collections.emptyList();
             }
-            return cache.getUnchecked(new TransmitterDataKey(data, renderGlass));
+            int index = data.getConnections() << 1 | (renderGlass ? 1 : 0);
+            List<BakedQuad> quads = quadTable.get(index);
+            if (quads == null) {
+                //Note: If multiple threads compute the quads for the same connections at once it doesn't matter which one is stored as they are equal
+                quads = buildQuads(data, renderGlass);
+                quadTable.set(index, quads);
+            }
+            return quads;
         }
         //Fallback to our "default" model arrangement. The item variant uses this
         return super.getQuads(state, null, rand, extraData, renderType);
@@ -134,68 +129,48 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
         return Collections.singletonList(this);
     }
 
+    private List<BakedQuad> buildQuads(TransmitterModelData data, boolean renderGlass) {
+        //Glass cache should never be null if we have renderGlass as true
+        ModelCache<SidedConnection, List<BakedQuad>> partsCache = renderGlass ? Objects.requireNonNull(glassPartsCache) : internalPartsCache;
+        List<BakedQuad> quads = new ArrayList<>();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            ConnectionType connectionType = data.getConnectionType(side);
+            IconStatus iconStatus = TransmitterModelConfiguration.getIconStatus(data, side, connectionType);
+            quads.addAll(partsCache.get(new SidedConnection(side, connectionType, iconStatus)));
+        }
+        return List.copyOf(quads);
+    }
+
     private static String getPartName(Direction side, ConnectionType connectionType) {
         return side.getSerializedName() + connectionType.name();
     }
 
-    private CacheLoader<SidedConnection, List<BakedQuad>> createPartCacheLoader(ObjModel model) {
-        return new CacheLoader<>() {
-            @NotNull
-            @Override
-            public List<BakedQuad> load(@NotNull SidedConnection key) {
-                Direction side = key.side();
-                ConnectionType connectionType = key.connection();
-                String part = getPartName(side, connectionType);
-                if (!model.getRootComponentNames().contains(part)) {
-                    //Validate the model actually has the part (this should always be true but if for some reason it isn't short circuit)
-                    return Collections.emptyList();
-                }
-                IconStatus iconStatus = key.status();
-                ModelState transform = modelTransform;
-                if (connectionType == ConnectionType.NONE && iconStatus.getAngle() > 0) {
-                    //If the part should be rotated, then we need to use a custom IModelTransform
-                    Vector3f vecForDirection = Vec3.atLowerCornerOf(side.getNormal()).toVector3f();
-                    vecForDirection.mul(-1);
-                    Quaternionf quaternion = new Quaternionf().setAngleAxis(iconStatus.getAngle(), vecForDirection.x, vecForDirection.y, vecForDirection.z);
-                    Transformation matrix = new Transformation(null, quaternion, null, null);
-                    transform = new SimpleModelState(transform.getRotation().compose(matrix), transform.isUvLocked());
-                }
-                BakedModel bakedModel = model.bake(new TransmitterModelConfiguration(owner, part, iconStatus), baker, spriteGetter, transform, overrides, modelLocation);
-                //Note: We don't actually care about the state, or the side anywhere and the model returns the proper values even if we don't provide a render type
-                // We also just use a new random source as we don't have one in our current context
-                return bakedModel.getQuads(null, null, RandomSource.create(), ModelData.EMPTY, null);
+    private Function<SidedConnection, List<BakedQuad>> createPartLoader(ObjModel model) {
+        return key -> {
+            Direction side = key.side();
+            ConnectionType connectionType = key.connection();
+            String part = getPartName(side, connectionType);
+            if (!model.getRootComponentNames().contains(part)) {
+                //Validate the model actually has the part (this should always be true but if for some reason it isn't short circuit)
+                return Collections.emptyList();
+            }
+            IconStatus iconStatus = key.status();
+            ModelState transform = modelTransform;
+            if (connectionType == ConnectionType.NONE && iconStatus.getAngle() > 0) {
+                //If the part should be rotated, then we need to use a custom IModelTransform
+                Vector3f vecForDirection = Vec3.atLowerCornerOf(side.getNormal()).toVector3f();
+                vecForDirection.mul(-1);
+                Quaternionf quaternion = new Quaternionf().setAngleAxis(iconStatus.getAngle(), vecForDirection.x, vecForDirection.y, vecForDirection.z);
+                Transformation matrix = new Transformation(null, quaternion, null, null);
+                transform = new SimpleModelState(transform.getRotation().compose(matrix), transform.isUvLocked());
             }
+            BakedModel bakedModel = model.bake(new TransmitterModelConfiguration(owner, part, iconStatus), baker, spriteGetter, transform, overrides, modelLocation);
+            //Note: We don't actually care about the state, or the side anywhere and the model returns the proper values even if we don't provide a render type
+            // We also just use a new random source as we don't have one in our current context
+            return bakedModel.getQuads(null, null, RandomSource.create(), ModelData.EMPTY, null);
         };
     }
 
     private record SidedConnection(Direction side, ConnectionType connection, IconStatus status) {
     }
-
-    private static class TransmitterDataKey {
-
-        private final TransmitterModelData data;
-        private final boolean renderGlass;
-        private final int hash;
-
-        public TransmitterDataKey(TransmitterModelData data, boolean renderGlass) {
-            this.data = data;
-            this.renderGlass = renderGlass;
-            this.hash = Objects.hash(this.data.getConnectionsMap(), this.renderGlass);
-        }
-
-        @Override
-        public int hashCode() {
-            return hash;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj == this) {
-                return true;
-            }
-            //Note: We don't compare data directly as if we aren't rendering glass it not being colored is irrelevant
-            // and if we are rendering glass, it will always be colored as we short circuit when it isn't colored
-            return obj instanceof TransmitterDataKey other && renderGlass == other.renderGlass && data.getConnectionsMap().equals(other.data.getConnectionsMap());
-        }
-    }
-}
\ No newline at end of file
+}
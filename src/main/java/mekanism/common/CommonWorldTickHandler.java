@@ -1,12 +1,16 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.function.Predicate;
 import mekanism.api.NBTConstants;
 import mekanism.api.security.ISecurityUtils;
@@ -14,11 +18,19 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.MekanismExecutor;
+import mekanism.common.lib.MekanismExecutor.Priority;
+import mekanism.common.lib.MekanismExecutor.Task;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileUpdateQueue;
+import mekanism.common.tile.factory.FactoryRecipeLookupCache;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
+import mekanism.common.world.GenHandler.BlockChange;
+import mekanism.common.world.GenHandler.RetrogenSnapshot;
+import net.minecraft.SharedConstants;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -47,11 +59,16 @@ import org.jetbrains.annotations.Nullable;
 public class CommonWorldTickHandler {
 
     private static final long maximumDeltaTimeNanoSecs = 16_000_000; // 16 milliseconds
+    /**
+     * Maximum number of chunks per dimension that can be waiting on or have a finished retrogen plan at once, so that snapshots of too many chunks aren't held in
+     * memory.
+     */
+    private static final int MAX_PLANNED_CHUNKS = 64;
 
     //TODO: I believe this may be fine as is with just the load and save methods being synchronized
     // but there is a chance this is not the case in which case we should adjust how this is done
     private Map<ResourceLocation, Object2IntMap<ChunkPos>> chunkVersions;
-    private Map<ResourceLocation, Queue<ChunkPos>> chunkRegenMap;
+    private Map<ResourceLocation, RetrogenQueue> chunkRegenMap;
     public static boolean flushTagAndRecipeCaches;
     public static boolean monitoringCardboardBox;
     @Nullable
@@ -61,20 +78,30 @@ public class CommonWorldTickHandler {
         if (chunkRegenMap == null) {
             chunkRegenMap = new Object2ObjectArrayMap<>();
         }
-        ResourceLocation dimensionName = dimension.location();
-        if (!chunkRegenMap.containsKey(dimensionName)) {
-            LinkedList<ChunkPos> list = new LinkedList<>();
-            list.add(chunkCoord);
-            chunkRegenMap.put(dimensionName, list);
-        } else {
-            Queue<ChunkPos> regenPositions = chunkRegenMap.get(dimensionName);
-            if (!regenPositions.contains(chunkCoord)) {
-                regenPositions.add(chunkCoord);
-            }
+        chunkRegenMap.computeIfAbsent(dimension.location(), dimensionName -> new RetrogenQueue()).chunks.add(chunkCoord.toLong());
+    }
+
+    /**
+     * @return How far along retrogen is in each dimension that still has chunks queued.
+     */
+    public List<RetrogenProgress> getRetrogenProgress() {
+        if (chunkRegenMap == null) {
+            return Collections.emptyList();
         }
+        List<RetrogenProgress> progress = new ArrayList<>(chunkRegenMap.size());
+        for (Map.Entry<ResourceLocation, RetrogenQueue> entry : chunkRegenMap.entrySet()) {
+            RetrogenQueue queue = entry.getValue();
+            progress.add(new RetrogenProgress(entry.getKey(), queue.processed, queue.remaining(), queue.generated));
+        }
+        return progress;
     }
 
     public void resetChunkData() {
+        if (chunkRegenMap != null) {
+            for (RetrogenQueue queue : chunkRegenMap.values()) {
+                queue.planning.forEach(Task::cancel);
+            }
+        }
         chunkRegenMap = null;
         chunkVersions = null;
     }
@@ -163,9 +190,13 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
+            //Drop any tile updates that were queued for the world, as there is no one left to send them to
+            TileUpdateQueue.clear(level);
         }
     }
 
@@ -186,6 +217,17 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void flushTileUpdates(ServerTickEvent event) {
+        if (event.side.isServer() && event.phase == Phase.END) {
+            //Apply the results of any background tasks that finished, before sending tile updates so that any changes they cause get synced this tick
+            MekanismExecutor.runCompletions();
+            //Send any tile updates that were queued during this tick, we do this at the lowest priority so that it happens after anything else that may queue
+            // updates at the end of the tick, such as transmitter networks
+            TileUpdateQueue.flush();
+        }
+    }
+
     @SubscribeEvent
     public void onTick(LevelTickEvent event) {
         if (event.side.isServer() && event.phase == Phase.END) {
@@ -196,11 +238,17 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         RadiationManager.get().tickServer();
+        //Clear any factory recipe lookups that were shared during this tick
+        FactoryRecipeLookupCache.clear();
     }
 
     private void tickEnd(ServerLevel world) {
         if (!world.isClientSide) {
             RadiationManager.get().tickServerWorld(world);
+            if (world.dimension() == Level.OVERWORLD && world.getGameTime() % SharedConstants.TICKS_PER_MINUTE == 0) {
+                //Multiblock caches are shared between dimensions, so we only need to check for expired ones from a single dimension
+                MultiblockManager.removeExpiredCaches(world.getGameTime());
+            }
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
                 for (ServerPlayer player : world.players()) {
@@ -218,34 +266,91 @@ public class CommonWorldTickHandler {
             }
             ResourceLocation dimensionName = world.dimension().location();
             //Credit to E. Beef
-            if (chunkRegenMap.containsKey(dimensionName)) {
-                Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionName);
+            RetrogenQueue queue = chunkRegenMap.get(dimensionName);
+            if (queue != null) {
+                LongLinkedOpenHashSet chunksToGen = queue.chunks;
                 //Chunk versions may be null if retrogen is forced by command
                 Object2IntMap<ChunkPos> dimensionChunkVersions = chunkVersions == null ? Object2IntMaps.emptyMap() : chunkVersions.getOrDefault(dimensionName, Object2IntMaps.emptyMap());
                 long startTime = System.nanoTime();
-                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) {
-                    ChunkPos nextChunk = chunksToGen.poll();
-                    if (nextChunk == null) {
-                        break;
+                //Apply the plans that finished off thread first, as they only need to place the blocks
+                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !queue.planned.isEmpty()) {
+                    RetrogenPlan plan = queue.planned.removeFirst();
+                    //Ensure the chunk is still loaded, if it isn't, leave its version alone so that it gets queued again when it next loads
+                    if (WorldUtils.isChunkLoaded(world, plan.chunk())) {
+                        finishRetrogen(queue, dimensionChunkVersions, plan.chunk(), GenHandler.apply(world, plan.changes()));
                     }
+                    queue.processed++;
+                }
+                queue.planning.removeIf(Task::isDone);
+                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty() &&
+                       queue.planning.size() + queue.planned.size() < MAX_PLANNED_CHUNKS) {
+                    ChunkPos nextChunk = new ChunkPos(chunksToGen.removeFirstLong());
                     //Ensure the chunk actually exists and is still loaded before trying to retrogen it
                     if (WorldUtils.isChunkLoaded(world, nextChunk)) {
-                        if (GenHandler.generate(world, nextChunk)) {
-                            Mekanism.logger.info("Regenerating ores and salt at chunk {}", nextChunk);
-                        }
-                        //Regardless of whether we were able to generate anything in the chunk, now that we have
-                        // handled it, update the chunk version. We do this by removing tracking the chunk's
-                        // version so that we can just default it to the latest version when saved and free up the
-                        // memory as early as possible
-                        if (chunkVersions != null) {
-                            dimensionChunkVersions.removeInt(nextChunk);
+                        //Plan what to place against a copy of the chunk and its neighbours off thread, and then place it once the plan is finished
+                        RetrogenSnapshot snapshot = GenHandler.snapshot(world, nextChunk);
+                        if (snapshot != null) {
+                            Task<List<BlockChange>> task = MekanismExecutor.submit("Retrogen Planning", Priority.LOW, null, () -> GenHandler.plan(snapshot),
+                                  changes -> queue.planned.add(new RetrogenPlan(nextChunk, changes)));
+                            if (task != null) {
+                                queue.planning.add(task);
+                                continue;
+                            }
                         }
+                        //If some of the neighbouring chunks aren't loaded or the executor is too busy, fall back to generating the chunk directly
+                        finishRetrogen(queue, dimensionChunkVersions, nextChunk, GenHandler.generate(world, nextChunk));
                     }
+                    queue.processed++;
                 }
-                if (chunksToGen.isEmpty()) {
+                if (queue.remaining() == 0) {
                     chunkRegenMap.remove(dimensionName);
+                    Mekanism.logger.info("Finished retrogen in {}. Processed {} chunks, generated ores or salt in {} of them.", dimensionName, queue.processed,
+                          queue.generated);
+                } else if (world.getGameTime() % SharedConstants.TICKS_PER_MINUTE == 0) {
+                    Mekanism.logger.info("Retrogen in {}: processed {} chunks, {} remaining.", dimensionName, queue.processed, queue.remaining());
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    private void finishRetrogen(RetrogenQueue queue, Object2IntMap<ChunkPos> dimensionChunkVersions, ChunkPos chunk, boolean generated) {
+        if (generated) {
+            //Note: Debug level as there may be a very large amount of chunks queued, progress is logged at info level in tickEnd instead
+            Mekanism.logger.debug("Regenerating ores and salt at chunk {}", chunk);
+            queue.generated++;
+        }
+        //Regardless of whether we were able to generate anything in the chunk, now that we have
+        // handled it, update the chunk version. We do this by removing tracking the chunk's
+        // version so that we can just default it to the latest version when saved and free up the
+        // memory as early as possible
+        if (chunkVersions != null) {
+            dimensionChunkVersions.removeInt(chunk);
+        }
+    }
+
+    public record RetrogenProgress(ResourceLocation dimension, int processed, int remaining, int generated) {
+    }
+
+    private static class RetrogenQueue {
+
+        //Note: We use a linked set so that chunks are processed in the order they were queued, while still being able to quickly check if a chunk is already queued
+        private final LongLinkedOpenHashSet chunks = new LongLinkedOpenHashSet();
+        /**
+         * Chunks that are being planned off thread.
+         */
+        private final List<Task<List<BlockChange>>> planning = new ArrayList<>();
+        /**
+         * Chunks that have been planned and are waiting for their blocks to be placed.
+         */
+        private final Deque<RetrogenPlan> planned = new ArrayDeque<>();
+        private int processed;
+        private int generated;
+
+        private int remaining() {
+            return chunks.size() + planning.size() + planned.size();
+        }
+    }
+
+    private record RetrogenPlan(ChunkPos chunk, List<BlockChange> changes) {
+    }
+}
@@ -57,7 +57,10 @@ import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.FullCanteenItemPredicate;
 import mekanism.common.item.predicate.MaxedModuleContainerItemPredicate;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.MekanismExecutor;
+import mekanism.common.lib.SavedDataWriter;
 import mekanism.common.lib.Version;
+import mekanism.common.lib.chunkloading.ChunkLoadingManager;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.personalstorage.PersonalStorageManager;
@@ -66,6 +69,7 @@ import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
+import mekanism.common.network.PlayerChunkIndex;
 import mekanism.common.network.to_client.PacketTransmitterUpdate;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.condition.ConditionExistsCondition;
@@ -93,6 +97,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.tile.component.TileComponentChunkLoader.ChunkValidationCallback;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.world.GenHandler;
@@ -287,6 +292,8 @@ public class Mekanism {
     }
 
     private void serverStopped(ServerStoppedEvent event) {
+        //Make sure all our saved data has finished being written before the world is considered closed
+        SavedDataWriter.flush();
         //Clear all cache data, wait until server stopper though so that we make sure saving can use any data it needs
         playerState.clear(false);
         activeVibrators.clear();
@@ -304,6 +311,10 @@ public class Mekanism {
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
+        PlayerChunkIndex.INSTANCE.reset();
+        TileUpdateQueue.reset();
+        ChunkLoadingManager.INSTANCE.reset();
+        MekanismExecutor.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
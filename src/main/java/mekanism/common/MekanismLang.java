@@ -139,7 +139,15 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_FLUSH("command", "chunk.flush"),
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
+    COMMAND_CHUNK_LOADERS("command", "chunk.loaders"),
+    COMMAND_CHUNK_LOADERS_ENTRY("command", "chunk.loaders.entry"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_SLEEPING("command", "debug.sleeping"),
+    COMMAND_DEBUG_SLEEPING_ENTRY("command", "debug.sleeping.entry"),
+    COMMAND_DEBUG_SAVES("command", "debug.saves"),
+    COMMAND_DEBUG_SAVES_ENTRY("command", "debug.saves.entry"),
+    COMMAND_DEBUG_TASKS("command", "debug.tasks"),
+    COMMAND_DEBUG_TASKS_ENTRY("command", "debug.tasks.entry"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -158,6 +166,9 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_REDUCE_TARGET("command", "radiation.reduce.target"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
+    COMMAND_RETROGEN_STATUS("command", "retrogen.status"),
+    COMMAND_RETROGEN_STATUS_ENTRY("command", "retrogen.status.entry"),
+    COMMAND_RETROGEN_STATUS_NONE("command", "retrogen.status.none"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
     //Transmission types
@@ -37,11 +37,16 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_CHUNK = nodeOpCommand("chunk");
     public static final CommandPermissionNode COMMAND_CHUNK_CLEAR = nodeSubCommand(COMMAND_CHUNK, "clear");
     public static final CommandPermissionNode COMMAND_CHUNK_FLUSH = nodeSubCommand(COMMAND_CHUNK, "flush");
+    public static final CommandPermissionNode COMMAND_CHUNK_LOADERS = nodeSubCommand(COMMAND_CHUNK, "loaders");
     public static final CommandPermissionNode COMMAND_CHUNK_UNWATCH = nodeSubCommand(COMMAND_CHUNK, "unwatch");
     public static final CommandPermissionNode COMMAND_CHUNK_WATCH = nodeSubCommand(COMMAND_CHUNK, "watch");
 
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
+    public static final CommandPermissionNode COMMAND_DEBUG_SLEEPING = nodeSubCommand(COMMAND_DEBUG, "sleeping");
+    public static final CommandPermissionNode COMMAND_DEBUG_SAVES = nodeSubCommand(COMMAND_DEBUG, "saves");
+    public static final CommandPermissionNode COMMAND_DEBUG_TASKS = nodeSubCommand(COMMAND_DEBUG, "tasks");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
+    public static final CommandPermissionNode COMMAND_FORCE_RETROGEN_STATUS = nodeSubCommand(COMMAND_FORCE_RETROGEN, "status");
 
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD = nodeSubCommand(COMMAND_RADIATION, "add");
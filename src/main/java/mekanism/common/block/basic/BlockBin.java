@@ -47,6 +47,8 @@ public class BlockBin extends BlockTile<TileEntityBin, BlockTypeTile<TileEntityB
                         ItemStack stack;
                         if (bin.removeTicks == 0) {
                             bin.removeTicks = 3;
+                            //Ensure the bin is awake so that the click delay counts down
+                            bin.wakeUp();
                             if (player.isShiftKeyDown()) {
                                 stack = binSlot.getStack().copyWithCount(1);
                                 MekanismUtils.logMismatchedStackSize(binSlot.shrinkStack(1, Action.EXECUTE), 1);
@@ -88,6 +90,8 @@ public class BlockBin extends BlockTile<TileEntityBin, BlockTypeTile<TileEntityB
         if (stack.isEmpty() && player.isShiftKeyDown() && hit.getDirection() == bin.getDirection()) {
             return bin.toggleLock() ? InteractionResult.sidedSuccess(world.isClientSide) : InteractionResult.FAIL;
         } else if (!world.isClientSide) {
+            //Ensure the bin is awake so that the double click delay counts down
+            bin.wakeUp();
             BinInventorySlot binSlot = bin.getBinSlot();
             int binMaxSize = binSlot.getLimit(binSlot.getStack());
             if (binSlot.getCount() < binMaxSize) {
@@ -1,20 +1,34 @@
 package mekanism.common.command;
 
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
+import mekanism.common.lib.chunkloading.ChunkLoadingManager;
+import mekanism.common.lib.chunkloading.ChunkLoadingManager.LoaderInfo;
+import mekanism.common.lib.chunkloading.IChunkLoader;
+import mekanism.common.util.MekanismUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.ColumnPosArgument;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ColumnPos;
 import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -33,7 +47,8 @@ public class ChunkCommand {
               .then(WatchCommand.register())
               .then(UnwatchCommand.register())
               .then(ClearCommand.register())
-              .then(FlushCommand.register());
+              .then(FlushCommand.register())
+              .then(LoadersCommand.register());
     }
 
     private static class WatchCommand {
@@ -112,6 +127,70 @@ public class ChunkCommand {
         }
     }
 
+    private static class LoadersCommand {
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("loaders")
+                  .requires(MekanismPermissions.COMMAND_CHUNK_LOADERS)
+                  .executes(ctx -> list(ctx.getSource(), 10))
+                  .then(Commands.argument("count", IntegerArgumentType.integer(1))
+                        .executes(ctx -> list(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count"))));
+        }
+
+        private static int list(CommandSourceStack source, int count) {
+            List<LoaderCost> costs = new ArrayList<>();
+            for (LoaderInfo loader : ChunkLoadingManager.INSTANCE.getLoaders()) {
+                ServerLevel level = source.getServer().getLevel(loader.pos().dimension());
+                if (level != null) {
+                    costs.add(LoaderCost.calculate(level, loader));
+                }
+            }
+            costs.sort(Comparator.comparingInt(LoaderCost::cost).reversed());
+            int totalChunks = ChunkLoadingManager.INSTANCE.getTotalChunks();
+            int loaders = costs.size();
+            source.sendSuccess(() -> MekanismLang.COMMAND_CHUNK_LOADERS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, totalChunks, EnumColor.INDIGO, loaders),
+                  false);
+            for (LoaderCost cost : costs.subList(0, Math.min(count, loaders))) {
+                LoaderInfo loader = cost.loader();
+                BlockPos pos = loader.pos().pos();
+                source.sendSuccess(() -> MekanismLang.COMMAND_CHUNK_LOADERS_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                      MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()), EnumColor.INDIGO, loader.pos().dimension().location(),
+                      EnumColor.INDIGO, MekanismUtils.getLastKnownUsername(loader.owner()), EnumColor.INDIGO, loader.chunks(), EnumColor.INDIGO,
+                      cost.blockEntities(), EnumColor.INDIGO, cost.entities()), false);
+            }
+            return loaders;
+        }
+
+        /**
+         * How much the chunks a loader keeps loaded cost in terms of the block entities and entities that are in them.
+         */
+        private record LoaderCost(LoaderInfo loader, int blockEntities, int entities) {
+
+            private static LoaderCost calculate(ServerLevel level, LoaderInfo loader) {
+                int blockEntities = 0;
+                int entities = 0;
+                if (WorldUtils.getTileEntity(level, loader.pos().pos()) instanceof IChunkLoader chunkLoader) {
+                    for (long chunkPos : chunkLoader.getChunkLoader().getForcedChunks()) {
+                        int x = ChunkPos.getX(chunkPos);
+                        int z = ChunkPos.getZ(chunkPos);
+                        LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                        if (chunk != null) {
+                            blockEntities += chunk.getBlockEntities().size();
+                            AABB bounds = new AABB(SectionPos.sectionToBlockCoord(x), level.getMinBuildHeight(), SectionPos.sectionToBlockCoord(z),
+                                  SectionPos.sectionToBlockCoord(x + 1), level.getMaxBuildHeight(), SectionPos.sectionToBlockCoord(z + 1));
+                            entities += level.getEntitiesOfClass(Entity.class, bounds).size();
+                        }
+                    }
+                }
+                return new LoaderCost(loader, blockEntities, entities);
+            }
+
+            private int cost() {
+                return blockEntities + entities;
+            }
+        }
+    }
+
     @SubscribeEvent
     public static void onChunkLoad(ChunkEvent.Load event) {
         handleChunkEvent(event, MekanismLang.COMMAND_CHUNK_LOADED);
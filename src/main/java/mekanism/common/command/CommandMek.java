@@ -1,12 +1,15 @@
 package mekanism.common.command;
 
 
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
@@ -14,6 +17,11 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.lib.MekanismExecutor;
+import mekanism.common.lib.MekanismExecutor.TaskStats;
+import mekanism.common.lib.SavedDataWriter;
+import mekanism.common.lib.SavedDataWriter.SaveStats;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -22,8 +30,13 @@ import net.minecraft.commands.arguments.coordinates.Vec3Argument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.Vec3;
 
 public class CommandMek {
@@ -55,7 +68,83 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(Commands.literal("sleeping")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_SLEEPING)
+                        .executes(ctx -> sleeping(ctx.getSource(), 0))
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(0, 32))
+                              .executes(ctx -> sleeping(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "radius")))
+                        )
+                  ).then(Commands.literal("saves")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_SAVES)
+                        .executes(ctx -> saves(ctx.getSource()))
+                  ).then(Commands.literal("tasks")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_TASKS)
+                        .executes(ctx -> tasks(ctx.getSource()))
+                  );
+        }
+
+        private static int tasks(CommandSourceStack source) {
+            List<TaskStats> stats = MekanismExecutor.getStats();
+            int queued = MekanismExecutor.getQueuedTasks();
+            int running = MekanismExecutor.getRunningTasks();
+            int completing = MekanismExecutor.getPendingCompletions();
+            source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_TASKS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, queued, EnumColor.INDIGO, running,
+                  EnumColor.INDIGO, completing), false);
+            for (TaskStats stat : stats) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_TASKS_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stat.name(), EnumColor.INDIGO,
+                      stat.count(), EnumColor.INDIGO, String.format(Locale.ROOT, "%.2f", stat.averageWaitMillis()), EnumColor.INDIGO,
+                      String.format(Locale.ROOT, "%.2f", stat.averageRunMillis())), false);
+            }
+            return stats.size();
+        }
+
+        private static int saves(CommandSourceStack source) {
+            List<SaveStats> stats = SavedDataWriter.getStats();
+            int pending = SavedDataWriter.getPendingWrites();
+            source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SAVES.translateColored(EnumColor.GRAY, EnumColor.INDIGO, pending), false);
+            for (SaveStats stat : stats) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SAVES_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stat.name(), EnumColor.INDIGO,
+                      stat.size(), EnumColor.INDIGO, String.format(Locale.ROOT, "%.2f", stat.millis())), false);
+            }
+            return stats.size();
+        }
+
+        private static int sleeping(CommandSourceStack source, int radius) {
+            ServerLevel level = source.getLevel();
+            ChunkPos center = new ChunkPos(BlockPos.containing(source.getPosition()));
+            //Block -> [sleeping, awake]
+            Map<Block, int[]> counts = new Object2ObjectOpenHashMap<>();
+            int sleeping = 0;
+            int total = 0;
+            for (int x = center.x - radius; x <= center.x + radius; x++) {
+                for (int z = center.z - radius; z <= center.z + radius; z++) {
+                    LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                    if (chunk != null) {
+                        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                            if (blockEntity instanceof TileEntityMekanism tile) {
+                                int[] count = counts.computeIfAbsent(tile.getBlockType(), block -> new int[2]);
+                                if (tile.isSleeping()) {
+                                    count[0]++;
+                                    sleeping++;
+                                } else {
+                                    count[1]++;
+                                }
+                                total++;
+                            }
+                        }
+                    }
+                }
+            }
+            int totalSleeping = sleeping;
+            int totalTiles = total;
+            source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SLEEPING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, radius, EnumColor.INDIGO,
+                  totalSleeping, EnumColor.INDIGO, totalTiles), false);
+            for (Map.Entry<Block, int[]> entry : counts.entrySet()) {
+                int[] count = entry.getValue();
+                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SLEEPING_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey(),
+                      EnumColor.INDIGO, count[0], EnumColor.INDIGO, count[1]), false);
+            }
+            return totalSleeping;
         }
     }
 
@@ -3,7 +3,9 @@ package mekanism.common.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.util.List;
 import mekanism.api.text.EnumColor;
+import mekanism.common.CommonWorldTickHandler.RetrogenProgress;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
@@ -32,7 +34,10 @@ public class ForceRetrogenCommand {
                   BlockPos blockPos = BlockPos.containing(ctx.getSource().getPosition());
                   ColumnPos pos = new ColumnPos(blockPos.getX(), blockPos.getZ());
                   return addChunksToRegen(ctx.getSource(), pos, pos);
-              }).then(Commands.argument("from", ColumnPosArgument.columnPos())
+              }).then(Commands.literal("status")
+                    .requires(MekanismPermissions.COMMAND_FORCE_RETROGEN_STATUS)
+                    .executes(ctx -> status(ctx.getSource()))
+              ).then(Commands.argument("from", ColumnPosArgument.columnPos())
                     .executes(ctx -> {
                         ColumnPos from = ColumnPosArgument.getColumnPos(ctx, "from");
                         return addChunksToRegen(ctx.getSource(), from, from);
@@ -41,6 +46,21 @@ public class ForceRetrogenCommand {
                                 ColumnPosArgument.getColumnPos(ctx, "to")))));
     }
 
+    private static int status(CommandSourceStack source) {
+        List<RetrogenProgress> progress = Mekanism.worldTickHandler.getRetrogenProgress();
+        if (progress.isEmpty()) {
+            source.sendSuccess(() -> MekanismLang.COMMAND_RETROGEN_STATUS_NONE.translateColored(EnumColor.GRAY), false);
+        } else {
+            source.sendSuccess(() -> MekanismLang.COMMAND_RETROGEN_STATUS.translateColored(EnumColor.GRAY), false);
+            for (RetrogenProgress dimensionProgress : progress) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_RETROGEN_STATUS_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, dimensionProgress.dimension(),
+                      EnumColor.INDIGO, dimensionProgress.processed(), EnumColor.INDIGO, dimensionProgress.remaining(), EnumColor.INDIGO,
+                      dimensionProgress.generated()), false);
+            }
+        }
+        return progress.size();
+    }
+
     private static int addChunksToRegen(CommandSourceStack source, ColumnPos start, ColumnPos end) throws CommandSyntaxException {
         if (!MekanismConfig.world.enableRegeneration.get()) {
             throw RETROGEN_NOT_ENABLED.create();
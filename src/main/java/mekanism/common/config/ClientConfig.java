@@ -35,6 +35,8 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedBooleanValue enableHUD;
     public final CachedIntValue energyColor;
     public final CachedIntValue terRange;
+    public final CachedIntValue modelCacheSize;
+    public final CachedBooleanValue softModelCaches;
 
     public final CachedBooleanValue enableMultiblockFormationParticles;
     public final CachedBooleanValue machineEffects;
@@ -84,6 +86,10 @@ public class ClientConfig extends BaseMekanismConfig {
               .define("energyColor", 0x3CFE9A));
         terRange = CachedIntValue.wrap(this, builder.comment("Range at which Tile Entity Renderer's added by Mekanism can render at, for example the contents of multiblocks. Vanilla defaults the rendering range for TERs to 64 for most blocks, but uses a range of 256 for beacons and end gateways.")
               .defineInRange("terRange", 256, 1, 1_024));
+        modelCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of entries each of Mekanism's model caches can hold before the least recently used entries are removed. Changes are applied the next time resources are reloaded.")
+              .defineInRange("modelCacheSize", 4_096, 64, 1_048_576));
+        softModelCaches = CachedBooleanValue.wrap(this, builder.comment("If true, cached models can also be freed when the game is running low on memory. Changes are applied the next time resources are reloaded.")
+              .define("softModelCaches", false));
 
         builder.comment("Particle Config").push(PARTICLE_CATEGORY);
         enableMultiblockFormationParticles = CachedBooleanValue.wrap(this, builder.comment("Set to false to prevent particle spam when loading multiblocks (notification message will display instead).")
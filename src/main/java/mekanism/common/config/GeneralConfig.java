@@ -12,6 +12,7 @@ import mekanism.common.config.value.CachedFloatingLongValue;
 import mekanism.common.config.value.CachedIntValue;
 import mekanism.common.config.value.CachedLongValue;
 import mekanism.common.config.value.CachedOredictionificatorConfigValue;
+import mekanism.common.config.value.CachedRL2IntMapConfigValue;
 import mekanism.common.content.evaporation.EvaporationMultiblockData;
 import mekanism.common.tier.ChemicalTankTier;
 import mekanism.common.tier.EnergyCubeTier;
@@ -44,8 +45,11 @@ public class GeneralConfig extends BaseMekanismConfig {
 
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
+    public final CachedIntValue chunkLoadingPlayerLimit;
+    public final CachedIntValue chunkLoadingGlobalLimit;
     public final CachedBooleanValue easyMinerFilters;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedRL2IntMapConfigValue tickGroupDividers;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
     public final CachedIntValue maxUpgradeMultiplier;
@@ -55,6 +59,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue resistiveHeaterEfficiency;
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    public final CachedIntValue multiblockCacheExpiry;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -136,10 +141,18 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("logPackets", false));
         allowChunkloading = CachedBooleanValue.wrap(this, builder.comment("Disable to make the anchor upgrade not do anything.")
               .define("allowChunkloading", true));
+        chunkLoadingPlayerLimit = CachedIntValue.wrap(this, builder.comment("The maximum number of chunks that chunk loaders owned by a single player can keep loaded. Loaders that would go over this don't load any chunks. 0 for no limit.")
+              .defineInRange("chunkLoadingPlayerLimit", 0, 0, Integer.MAX_VALUE));
+        chunkLoadingGlobalLimit = CachedIntValue.wrap(this, builder.comment("The maximum number of chunks that all chunk loaders combined can keep loaded. Loaders that would go over this don't load any chunks. 0 for no limit.")
+              .defineInRange("chunkLoadingGlobalLimit", 0, 0, Integer.MAX_VALUE));
         easyMinerFilters = CachedBooleanValue.wrap(this, builder.comment("Enable this to allow dragging items from JEI into the target slot of Digital Miner filters.")
               .define("easyMinerFilters", false));
         blockDeactivationDelay = CachedIntValue.wrap(this, builder.comment("How many ticks must pass until a block's active state is synced with the client, if it has been rapidly changing.")
               .defineInRange("blockDeactivationDelay", 60, 0, 1_200));
+        tickGroupDividers = CachedRL2IntMapConfigValue.define(this, builder.comment("Map of block registry names to how many ticks should pass between each time machines of that type (and tier) process their recipes. Values may be in the range [1, 20].",
+                    "The elapsed ticks are factored into the recipe progress and energy usage, so the amount processed per second stays the same, but other per tick behaviour (such as auto-ejecting, or charging from energy items) will run less often.",
+                    "Each machine ticks at a different offset to spread out the load. For example: [\"mekanism:basic_smelting_factory,4\"]"),
+              "tickGroupDividers", Collections::emptyMap, i -> i >= 1 && i <= 20);
         cardboardModBlacklist = CachedConfigValue.wrap(this, builder.comment("Any mod ids added to this list will not be able to have any of their blocks, picked up by the cardboard box. For example: [\"mekanism\"]")
               .defineListAllowEmpty(Collections.singletonList("cardboardModBlacklist"), ArrayList::new, e -> e instanceof String modid && ResourceLocation.isValidNamespace(modid)));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
@@ -159,6 +172,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("superheatingHeatTransfer", 16_000_000, 0.1, 1_024_000_000));
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .defineInRange("maxSolarNeutronActivatorRate", 64, 1, 1_024));
+        multiblockCacheExpiry = CachedIntValue.wrap(this, builder.comment("Number of in-game days the contents of a multiblock are kept after it was last loaded, before they are deleted. Multiblocks that are loaded again after their contents were deleted will be empty. Set to zero to never delete the contents.")
+              .defineInRange("multiblockCacheExpiry", 0, 0, Integer.MAX_VALUE));
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
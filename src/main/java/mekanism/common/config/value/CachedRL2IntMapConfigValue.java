@@ -0,0 +1,72 @@
+package mekanism.common.config.value;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import mekanism.common.config.IMekanismConfig;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
+
+public class CachedRL2IntMapConfigValue extends CachedMapConfigValue<ResourceLocation, Integer> {
+
+    private CachedRL2IntMapConfigValue(IMekanismConfig config, ConfigValue<List<? extends String>> internal) {
+        super(config, internal);
+    }
+
+    public static CachedRL2IntMapConfigValue define(IMekanismConfig config, ForgeConfigSpec.Builder builder, String path, Supplier<Map<ResourceLocation, Integer>> defaults) {
+        return define(config, builder, path, defaults, i -> true);
+    }
+
+    public static CachedRL2IntMapConfigValue define(IMekanismConfig config, ForgeConfigSpec.Builder builder, String path, Supplier<Map<ResourceLocation, Integer>> defaults,
+          IntPredicate range) {
+        return new CachedRL2IntMapConfigValue(config, builder.defineListAllowEmpty(path,
+              () -> encodeStatic(defaults.get(), CachedRL2IntMapConfigValue::encodeStatic),
+              o -> {
+                  if (o instanceof String string) {
+                      String[] parts = string.split(",", 2);
+                      if (parts.length == 2 && ResourceLocation.isValidResourceLocation(parts[0].toLowerCase(Locale.ROOT))) {
+                          try {
+                              int i = Integer.parseInt(parts[1]);
+                              return range.test(i);
+                          } catch (NumberFormatException ignored) {
+                          }
+                      }
+                  }
+                  return false;
+              }));
+    }
+
+    @Override
+    protected void resolve(String encoded, Map<ResourceLocation, Integer> resolved) {
+        //We ignore any strings that are invalid, validation should have happened before we got here,
+        // but in case something went wrong we don't want to crash and burn
+        String[] parts = encoded.split(",", 2);
+        if (parts.length == 2) {
+            ResourceLocation rl = ResourceLocation.tryParse(parts[0].toLowerCase(Locale.ROOT));
+            if (rl != null) {
+                try {
+                    int value = Integer.parseInt(parts[1]);
+                    //First entry wins if for some reason it is there multiple times
+                    resolved.putIfAbsent(rl, value);
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void encode(ResourceLocation key, Integer value, Consumer<String> adder) {
+        encodeStatic(key, value, adder);
+    }
+
+    private static void encodeStatic(ResourceLocation key, Integer value, Consumer<String> adder) {
+        if (value != null) {
+            //The value should never be null but validate so
+            adder.accept(key + "," + value);
+        }
+    }
+}
@@ -12,11 +12,11 @@ import mekanism.api.chemical.gas.IGasTank;
 import mekanism.api.chemical.gas.attribute.GasAttributes.CooledCoolant;
 import mekanism.api.chemical.gas.attribute.GasAttributes.HeatedCoolant;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.math.MathUtils;
 import mekanism.common.capabilities.chemical.multiblock.MultiblockChemicalTankBuilder;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.listener.ConfigBasedCachedSupplier;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerChemicalTankWrapper;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerFluidTankWrapper;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerHeatCapacitorWrapper;
@@ -36,6 +36,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 
 public class BoilerMultiblockData extends MultiblockData implements IValveHandler {
 
@@ -45,7 +46,11 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
     private static final double CASING_INVERSE_INSULATION_COEFFICIENT = 100_000;
     private static final double CASING_INVERSE_CONDUCTION_COEFFICIENT = 1;
 
-    private static final double COOLANT_COOLING_EFFICIENCY = 0.4;
+    private static final ConfigBasedCachedSupplier<BoilerPhysics.Settings> PHYSICS_SETTINGS = new ConfigBasedCachedSupplier<>(
+          () -> new BoilerPhysics.Settings(MekanismConfig.general.boilerWaterConductivity.get(), MekanismConfig.general.superheatingHeatTransfer.get(),
+                HeatUtils.getWaterThermalEnthalpy(), HeatUtils.getSteamEnergyEfficiency(), HeatUtils.BASE_BOIL_TEMP),
+          MekanismConfig.general.boilerWaterConductivity, MekanismConfig.general.superheatingHeatTransfer, MekanismConfig.general.maxEnergyPerSteam
+    );
 
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getHeatedCoolant", "getHeatedCoolantCapacity", "getHeatedCoolantNeeded",
@@ -79,6 +84,8 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
     @ContainerSync
     @SyntheticComputerMethod(getter = "getSuperheaters", getterDescription = "How many superheaters this Boiler has")
     public int superheatingElements;
+    @Nullable
+    private BoilerPhysics physics;
 
     @ContainerSync(setter = "setWaterVolume")
     private int waterVolume;
@@ -115,6 +122,19 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         biomeAmbientTemp = calculateAverageAmbientTemperature(world);
         // update the heat capacity now that we've read
         heatCapacitor.setHeatCapacity(CASING_HEAT_CAPACITY * locations.size(), true);
+        //Recalculate the physics constants now that the heat capacity and number of elements are known
+        physics = null;
+    }
+
+    /**
+     * @return Constants of this boiler's physics, recalculating them if the boiler or the config has changed since they were last calculated.
+     */
+    private BoilerPhysics getPhysics() {
+        BoilerPhysics.Settings settings = PHYSICS_SETTINGS.get();
+        if (physics == null || physics.getSettings() != settings) {
+            physics = new BoilerPhysics(settings, superheatingElements, heatCapacitor.getHeatCapacity());
+        }
+        return physics;
     }
 
     @Override
@@ -131,11 +151,11 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         lastEnvironmentLoss = simulateEnvironment();
         // update temperature
         updateHeatCapacitors(null);
+        BoilerPhysics physics = getPhysics();
         // handle coolant heat transfer
         if (!superheatedCoolantTank.isEmpty()) {
             superheatedCoolantTank.getStack().ifAttributePresent(HeatedCoolant.class, coolantType -> {
-                long toCool = Math.round(BoilerMultiblockData.COOLANT_COOLING_EFFICIENCY * superheatedCoolantTank.getStored());
-                toCool = MathUtils.clampToLong(toCool * (1 - heatCapacitor.getTemperature() / HeatUtils.HEATED_COOLANT_TEMP));
+                long toCool = physics.getCoolantToCool(superheatedCoolantTank.getStored(), heatCapacitor.getTemperature());
                 GasStack cooledCoolant = coolantType.getCooledGas().getStack(toCool);
                 toCool = Math.min(toCool, toCool - cooledCoolantTank.insert(cooledCoolant, Action.EXECUTE, AutomationType.INTERNAL).getAmount());
                 if (toCool > 0) {
@@ -147,11 +167,8 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         }
         // handle water heat transfer
         if (getTotalTemperature() >= HeatUtils.BASE_BOIL_TEMP && !waterTank.isEmpty()) {
-            double heatAvailable = getHeatAvailable();
-            lastMaxBoil = (int) Math.floor(HeatUtils.getSteamEnergyEfficiency() * heatAvailable / HeatUtils.getWaterThermalEnthalpy());
-
-            int amountToBoil = Math.min(lastMaxBoil, waterTank.getFluidAmount());
-            amountToBoil = Math.min(amountToBoil, MathUtils.clampToInt(steamTank.getNeeded()));
+            lastMaxBoil = physics.getMaxBoil(physics.getHeatAvailable(heatCapacitor.getTemperature()));
+            int amountToBoil = physics.getAmountToBoil(lastMaxBoil, waterTank.getFluidAmount(), steamTank.getNeeded());
             if (!waterTank.isEmpty()) {
                 waterTank.shrinkStack(amountToBoil, Action.EXECUTE);
             }
@@ -161,7 +178,7 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
                 steamTank.growStack(amountToBoil, Action.EXECUTE);
             }
 
-            heatCapacitor.handleHeat(-amountToBoil * HeatUtils.getWaterThermalEnthalpy() / HeatUtils.getSteamEnergyEfficiency());
+            heatCapacitor.handleHeat(physics.getBoilingHeat(amountToBoil));
             lastBoilRate = amountToBoil;
         } else {
             lastBoilRate = 0;
@@ -211,11 +228,6 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         return MekanismUtils.redstoneLevelFromContents(waterTank.getFluidAmount(), waterTank.getCapacity());
     }
 
-    private double getHeatAvailable() {
-        double heatAvailable = (heatCapacitor.getTemperature() - HeatUtils.BASE_BOIL_TEMP) * (heatCapacitor.getHeatCapacity() * MekanismConfig.general.boilerWaterConductivity.get());
-        return Math.min(heatAvailable, MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements);
-    }
-
     @Override
     public double simulateEnvironment() {
         double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + (CASING_INVERSE_INSULATION_COEFFICIENT + CASING_INVERSE_CONDUCTION_COEFFICIENT);
@@ -250,7 +262,6 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
 
     @ComputerMethod(methodDescription = "Get the maximum possible boil rate for this Boiler, based on the number of Superheating Elements")
     public long getBoilCapacity() {
-        double boilCapacity = MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements / HeatUtils.getWaterThermalEnthalpy();
-        return MathUtils.clampToLong(boilCapacity * HeatUtils.getSteamEnergyEfficiency());
+        return getPhysics().getBoilCapacity();
     }
 }
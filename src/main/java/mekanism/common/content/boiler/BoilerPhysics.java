@@ -0,0 +1,90 @@
+package mekanism.common.content.boiler;
+
+import mekanism.api.math.MathUtils;
+import mekanism.common.util.HeatUtils;
+
+/**
+ * Per-structure constants of a Thermoelectric Boiler, calculated once when the boiler forms (or the config changes) so that the per-tick step only has to deal with
+ * primitives.
+ */
+public final class BoilerPhysics {
+
+    private static final double COOLANT_COOLING_EFFICIENCY = 0.4;
+
+    private final Settings settings;
+    private final double maxHeatTransfer;
+    private final double heatConductance;
+
+    public BoilerPhysics(Settings settings, int superheatingElements, double heatCapacity) {
+        this.settings = settings;
+        this.maxHeatTransfer = settings.superheatingHeatTransfer() * superheatingElements;
+        this.heatConductance = heatCapacity * settings.waterConductivity();
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @param stored      Amount of heated coolant stored in the boiler.
+     * @param temperature Current temperature of the boiler.
+     *
+     * @return Amount of heated coolant that can be cooled this tick.
+     */
+    public long getCoolantToCool(long stored, double temperature) {
+        long toCool = Math.round(COOLANT_COOLING_EFFICIENCY * stored);
+        return MathUtils.clampToLong(toCool * (1 - temperature / HeatUtils.HEATED_COOLANT_TEMP));
+    }
+
+    /**
+     * @param temperature Current temperature of the boiler.
+     *
+     * @return Amount of heat that can be used to boil water this tick.
+     */
+    public double getHeatAvailable(double temperature) {
+        double heatAvailable = (temperature - settings.boilTemperature()) * heatConductance;
+        return Math.min(heatAvailable, maxHeatTransfer);
+    }
+
+    /**
+     * @return Maximum amount of water the given amount of heat can boil.
+     */
+    public int getMaxBoil(double heatAvailable) {
+        return (int) Math.floor(settings.steamEnergyEfficiency() * heatAvailable / settings.waterThermalEnthalpy());
+    }
+
+    /**
+     * @param maxBoil     Maximum amount of water that can be boiled.
+     * @param water       Amount of water stored in the boiler.
+     * @param steamNeeded Amount of space left in the steam tank.
+     *
+     * @return Amount of water to boil this tick.
+     */
+    public int getAmountToBoil(int maxBoil, int water, long steamNeeded) {
+        return Math.min(Math.min(maxBoil, water), MathUtils.clampToInt(steamNeeded));
+    }
+
+    /**
+     * @return Heat that is used up by boiling the given amount of water, as a negative number.
+     */
+    public double getBoilingHeat(int amountToBoil) {
+        return -amountToBoil * settings.waterThermalEnthalpy() / settings.steamEnergyEfficiency();
+    }
+
+    /**
+     * @return Maximum possible boil rate of the boiler.
+     */
+    public long getBoilCapacity() {
+        double boilCapacity = maxHeatTransfer / settings.waterThermalEnthalpy();
+        return MathUtils.clampToLong(boilCapacity * settings.steamEnergyEfficiency());
+    }
+
+    /**
+     * Config values that are shared by all boilers.
+     *
+     * @param boilTemperature Temperature at which water boils.
+     */
+    public record Settings(double waterConductivity, double superheatingHeatTransfer, double waterThermalEnthalpy, double steamEnergyEfficiency,
+                           double boilTemperature) {
+    }
+}
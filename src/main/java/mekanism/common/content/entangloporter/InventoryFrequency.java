@@ -71,8 +71,12 @@ import org.jetbrains.annotations.Nullable;
 public class InventoryFrequency extends Frequency implements IMekanismInventory, IMekanismFluidHandler, IMekanismStrictEnergyHandler, ITileHeatHandler, IGasTracker,
       IInfusionTracker, IPigmentTracker, ISlurryTracker {
 
+    private static final int ITEM_EJECT_DELAY = 10;
+
     private final Map<Coord4D, TileEntityQuantumEntangloporter> activeQEs = new Object2ObjectOpenHashMap<>();
     private long lastEject = -1;
+    private long lastItemEject = -1;
+    private int nextItemEjector;
 
     private BasicFluidTank storedFluid;
     private IGasTank storedGas;
@@ -220,7 +224,7 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
 
     @Override
     public void onContentsChanged() {
-        dirty = true;
+        markDirty();
     }
 
     @Override
@@ -299,6 +303,24 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
                     transferHandler.run();
                 }
             }
+            if (!storedItem.isEmpty() && (lastItemEject == -1 || gameTime - lastItemEject > ITEM_EJECT_DELAY)) {
+                lastItemEject = gameTime;
+                ejectItems();
+            }
+        }
+    }
+
+    /**
+     * Ejects the stored item through each QE's item ejector in turn until the item is gone. The QE that gets to go first changes each time, so that QEs that are
+     * later in the order still get a share instead of the first QE always taking everything.
+     */
+    private void ejectItems() {
+        List<TileEntityQuantumEntangloporter> qes = new ArrayList<>(activeQEs.values());
+        int count = qes.size();
+        int start = nextItemEjector % count;
+        nextItemEjector = start + 1;
+        for (int i = 0; i < count && !storedItem.isEmpty(); i++) {
+            qes.get((start + i) % count).getEjector().ejectItems();
         }
     }
 
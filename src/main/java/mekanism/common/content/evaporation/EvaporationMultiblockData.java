@@ -22,6 +22,7 @@ import mekanism.common.capabilities.fluid.BasicFluidTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.listener.ConfigBasedCachedSupplier;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerFluidTankWrapper;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
@@ -64,6 +65,11 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
     );
     public static final int MAX_HEIGHT = 18;
     public static final double MAX_MULTIPLIER_TEMP = 3_000;
+    private static final ConfigBasedCachedSupplier<EvaporationPhysics.Settings> PHYSICS_SETTINGS = new ConfigBasedCachedSupplier<>(
+          () -> new EvaporationPhysics.Settings(MekanismConfig.general.evaporationTempMultiplier.get(), MekanismConfig.general.evaporationSolarMultiplier.get(),
+                MekanismConfig.general.evaporationHeatDissipation.get()),
+          MekanismConfig.general.evaporationTempMultiplier, MekanismConfig.general.evaporationSolarMultiplier, MekanismConfig.general.evaporationHeatDissipation
+    );
 
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerFluidTankWrapper.class, methodNames = {"getInput", "getInputCapacity", "getInputNeeded", "getInputFilledPercentage"}, docPlaceholder = "input tank")
@@ -76,6 +82,8 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
 
     private double biomeAmbientTemp;
     private double tempMultiplier;
+    @Nullable
+    private EvaporationPhysics physics;
 
     private int inputTankCapacity;
     public float prevScale;
@@ -131,9 +139,22 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
         biomeAmbientTemp = calculateAverageAmbientTemperature(world);
         // update the heat capacity now that we've read
         heatCapacitor.setHeatCapacity(MekanismConfig.general.evaporationHeatCapacity.get() * height(), true);
+        //Recalculate the physics constants now that the height is known
+        physics = null;
         updateSolars(world);
     }
 
+    /**
+     * @return Constants of this plant's physics, recalculating them if the plant or the config has changed since they were last calculated.
+     */
+    private EvaporationPhysics getPhysics() {
+        EvaporationPhysics.Settings settings = PHYSICS_SETTINGS.get();
+        if (physics == null || physics.getSettings() != settings) {
+            physics = new EvaporationPhysics(settings, height());
+        }
+        return physics;
+    }
+
     @Override
     public boolean tick(Level world) {
         boolean needsPacket = super.tick(world);
@@ -142,9 +163,7 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
         // update temperature
         updateHeatCapacitors(null);
         //After we update the heat capacitors, update our temperature multiplier
-        // Note: We use the ambient temperature without taking our biome into account as we want to have a consistent multiplier
-        tempMultiplier = (Math.min(MAX_MULTIPLIER_TEMP, getTemperature()) - HeatAPI.AMBIENT_TEMP) * MekanismConfig.general.evaporationTempMultiplier.get() *
-                         ((double) height() / MAX_HEIGHT);
+        tempMultiplier = getPhysics().getTempMultiplier(getTemperature());
         inputOutputSlot.drainTank(outputOutputSlot);
         inputInputSlot.fillTank(outputInputSlot);
         recipeCacheLookupMonitor.updateAndProcess();
@@ -174,16 +193,14 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
 
     @Override
     public double simulateEnvironment() {
+        EvaporationPhysics physics = getPhysics();
         double currentTemperature = getTemperature();
         double heatCapacity = heatCapacitor.getHeatCapacity();
-        heatCapacitor.handleHeat(getActiveSolars() * MekanismConfig.general.evaporationSolarMultiplier.get() * heatCapacity);
+        heatCapacitor.handleHeat(physics.getSolarHeat(getActiveSolars(), heatCapacity));
         if (Math.abs(currentTemperature - biomeAmbientTemp) < 0.001) {
             heatCapacitor.handleHeat(biomeAmbientTemp * heatCapacity - heatCapacitor.getHeat());
         } else {
-            double incr = MekanismConfig.general.evaporationHeatDissipation.get() * Math.sqrt(Math.abs(currentTemperature - biomeAmbientTemp));
-            if (currentTemperature > biomeAmbientTemp) {
-                incr = -incr;
-            }
+            double incr = physics.getTemperatureChange(currentTemperature, biomeAmbientTemp);
             heatCapacitor.handleHeat(heatCapacity * incr);
             if (incr < 0) {
                 return -incr;
@@ -240,18 +257,10 @@ public class EvaporationMultiblockData extends MultiblockData implements IValveH
                   //TODO: Make the numbers for lastGain be based on how much the recipe provides as an output rather than "assuming" it is 1 mB
                   // Also fix that the numbers don't quite accurately reflect the values as we modify number of operations, and not have a fractional
                   // amount
-                  if (active) {
-                      if (tempMultiplier > 0 && tempMultiplier < 1) {
-                          lastGain = 1F / (int) Math.ceil(1 / tempMultiplier);
-                      } else {
-                          lastGain = tempMultiplier;
-                      }
-                  } else {
-                      lastGain = 0;
-                  }
+                  lastGain = active ? EvaporationPhysics.getGain(tempMultiplier) : 0;
               })
-              .setRequiredTicks(() -> tempMultiplier > 0 && tempMultiplier < 1 ? (int) Math.ceil(1 / tempMultiplier) : 1)
-              .setBaselineMaxOperations(() -> tempMultiplier > 0 && tempMultiplier < 1 ? 1 : (int) tempMultiplier);
+              .setRequiredTicks(() -> EvaporationPhysics.getRequiredTicks(tempMultiplier))
+              .setBaselineMaxOperations(() -> EvaporationPhysics.getMaxOperations(tempMultiplier));
     }
 
     public boolean hasWarning(RecipeError error) {
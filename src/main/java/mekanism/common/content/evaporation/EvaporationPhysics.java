@@ -0,0 +1,78 @@
+package mekanism.common.content.evaporation;
+
+import mekanism.api.heat.HeatAPI;
+
+/**
+ * Per-structure constants of a Thermal Evaporation Plant, calculated once when the plant forms (or the config changes) so that the per-tick step only has to deal
+ * with primitives.
+ */
+public final class EvaporationPhysics {
+
+    private final Settings settings;
+    private final double heightRatio;
+
+    public EvaporationPhysics(Settings settings, int height) {
+        this.settings = settings;
+        this.heightRatio = (double) height / EvaporationMultiblockData.MAX_HEIGHT;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @return Heat provided by the given number of active solar panels.
+     */
+    public double getSolarHeat(int activeSolars, double heatCapacity) {
+        return activeSolars * settings.solarMultiplier() * heatCapacity;
+    }
+
+    /**
+     * @return Change in temperature caused by the plant exchanging heat with its environment.
+     */
+    public double getTemperatureChange(double temperature, double ambientTemperature) {
+        double incr = settings.heatDissipation() * Math.sqrt(Math.abs(temperature - ambientTemperature));
+        return temperature > ambientTemperature ? -incr : incr;
+    }
+
+    /**
+     * @param temperature Current temperature of the plant.
+     *
+     * @return Multiplier for how fast the plant processes.
+     *
+     * @implNote We use the ambient temperature without taking the biome into account as we want to have a consistent multiplier
+     */
+    public double getTempMultiplier(double temperature) {
+        return (Math.min(EvaporationMultiblockData.MAX_MULTIPLIER_TEMP, temperature) - HeatAPI.AMBIENT_TEMP) * settings.tempMultiplier() * heightRatio;
+    }
+
+    /**
+     * @return Number of ticks each operation takes at the given temperature multiplier.
+     */
+    public static int getRequiredTicks(double tempMultiplier) {
+        return tempMultiplier > 0 && tempMultiplier < 1 ? (int) Math.ceil(1 / tempMultiplier) : 1;
+    }
+
+    /**
+     * @return Number of operations performed at once at the given temperature multiplier.
+     */
+    public static int getMaxOperations(double tempMultiplier) {
+        return tempMultiplier > 0 && tempMultiplier < 1 ? 1 : (int) tempMultiplier;
+    }
+
+    /**
+     * @return Amount produced per tick at the given temperature multiplier.
+     */
+    public static double getGain(double tempMultiplier) {
+        if (tempMultiplier > 0 && tempMultiplier < 1) {
+            return 1F / (int) Math.ceil(1 / tempMultiplier);
+        }
+        return tempMultiplier;
+    }
+
+    /**
+     * Config values that are shared by all evaporation plants.
+     */
+    public record Settings(double tempMultiplier, double solarMultiplier, double heatDissipation) {
+    }
+}
@@ -1,9 +1,7 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
@@ -21,7 +19,6 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
-    private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -29,6 +26,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private FloatingLong queuedInput = FloatingLong.ZERO;
     private FloatingLong lastOutput = FloatingLong.ZERO;
     private FloatingLong lastInput = FloatingLong.ZERO;
+    //Queued energy that was already written to the cells this tick, so that we can still properly rate limit and report the last input and output
+    private FloatingLong flushedOutput = FloatingLong.ZERO;
+    private FloatingLong flushedInput = FloatingLong.ZERO;
 
     private FloatingLong cachedTotal = FloatingLong.ZERO;
     private FloatingLong transferCap = FloatingLong.ZERO;
@@ -53,23 +53,20 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         transferCap = transferCap.plusEqual(provider.tier.getOutput());
     }
 
-    //TODO: I believe this is needed or at least will be after we eventually rewrite some of the multiblock system
-    // currently I think it may just be rechecking the entire structure when something changes internally
-    // We need to validate that does properly happen even if the cell is floating in the middle and not touching any walls
+    //TODO: We need to validate that this properly happens even if the cell is floating in the middle and not touching any walls
     // We may also want to make cells and providers extend TileEntityInternalMultiblock
     public void removeInternal(BlockPos pos) {
-        if (invalidPositions.add(pos)) {
-            if (providers.containsKey(pos)) {
-                //It is a provider
-                transferCap = transferCap.minusEqual(providers.get(pos).getOutput());
-            } else if (cells.containsKey(pos)) {
-                //It is a cell
-                //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
-                // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
-                IEnergyContainer cellContainer = cells.get(pos);
-                storageCap = storageCap.plusEqual(cellContainer.getMaxEnergy());
-                cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
-            }
+        InductionProviderTier provider = providers.remove(pos);
+        if (provider != null) {
+            //It is a provider
+            transferCap = transferCap.minusEqual(provider.getOutput());
+        } else if (cells.containsKey(pos)) {
+            //It is a cell, write any queued changes to the cells first so that the cached total can't become negative
+            // from removing energy that was queued against the cell we are removing
+            flushQueued();
+            IEnergyContainer cellContainer = cells.remove(pos);
+            storageCap = storageCap.minusEqual(cellContainer.getMaxEnergy());
+            cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
         }
     }
 
@@ -83,19 +80,22 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         queuedInput = FloatingLong.ZERO;
         lastOutput = FloatingLong.ZERO;
         lastInput = FloatingLong.ZERO;
+        flushedOutput = FloatingLong.ZERO;
+        flushedInput = FloatingLong.ZERO;
         cachedTotal = FloatingLong.ZERO;
         transferCap = FloatingLong.ZERO;
         storageCap = FloatingLong.ZERO;
     }
 
     public void tick() {
-        if (!invalidPositions.isEmpty()) {
-            for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
-                providers.remove(invalidPosition);
-            }
-            invalidPositions.clear();
-        }
+        flushQueued();
+        lastInput = flushedInput;
+        lastOutput = flushedOutput;
+        flushedInput = FloatingLong.ZERO;
+        flushedOutput = FloatingLong.ZERO;
+    }
+
+    private void flushQueued() {
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
             //queuedInput is smaller - we are removing energy
@@ -104,8 +104,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
             //queuedInput is larger - we are adding energy
             addEnergy(queuedInput.subtract(queuedOutput));
         }
-        lastInput = queuedInput;
-        lastOutput = queuedOutput;
+        flushedInput = flushedInput.plusEqual(queuedInput);
+        flushedOutput = flushedOutput.plusEqual(queuedOutput);
         queuedInput = FloatingLong.ZERO;
         queuedOutput = FloatingLong.ZERO;
     }
@@ -217,11 +217,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     private FloatingLong getRemainingInput() {
-        return transferCap.subtract(queuedInput);
+        return transferCap.subtract(queuedInput).subtract(flushedInput);
     }
 
     private FloatingLong getRemainingOutput() {
-        return transferCap.subtract(queuedOutput);
+        return transferCap.subtract(queuedOutput).subtract(flushedOutput);
     }
 
     public FloatingLong getMaxTransfer() {
@@ -13,6 +13,7 @@ import mekanism.common.tile.multiblock.TileEntityInductionCasing;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
 import mekanism.common.tile.multiblock.TileEntityInductionProvider;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
@@ -76,6 +77,10 @@ public class MatrixMultiblockData extends MultiblockData {
         energyContainer.addProvider(provider.getBlockPos(), provider);
     }
 
+    public void removeInternal(BlockPos pos) {
+        energyContainer.removeInternal(pos);
+    }
+
     @NotNull
     public MatrixEnergyContainer getEnergyContainer() {
         return energyContainer;
@@ -61,4 +61,17 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
         providers.forEach(structure::addProvider);
         return FormationResult.SUCCESS;
     }
+
+    @Override
+    protected boolean revalidateAdded(MatrixMultiblockData multiblock, BlockPos pos, Long2ObjectMap<ChunkAccess> chunkMap) {
+        //Note: validateInner will have already tracked the cell or provider that got added
+        postcheck(multiblock, chunkMap);
+        return true;
+    }
+
+    @Override
+    protected boolean revalidateRemoved(MatrixMultiblockData multiblock, BlockPos pos) {
+        multiblock.removeInternal(pos);
+        return true;
+    }
 }
\ No newline at end of file
@@ -10,6 +10,9 @@ import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.MekanismExecutor;
+import mekanism.common.lib.MekanismExecutor.Priority;
+import mekanism.common.lib.MekanismExecutor.Task;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
@@ -27,12 +30,19 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a digital miner for the blocks it should mine. The search runs in the background on the {@link MekanismExecutor}.
+ */
+public class ThreadMinerSearch {
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
     private PathNavigationRegion chunkCache;
+    @Nullable
+    private Task<Long2ObjectMap<BitSet>> task;
+    private volatile boolean cancelled;
     public State state = State.IDLE;
     public int found = 0;
 
@@ -40,16 +50,34 @@ public class ThreadMinerSearch extends Thread {
         this.tile = tile;
     }
 
-    public void setChunkCache(PathNavigationRegion cache) {
+    /**
+     * Starts searching the given area in the background. If there are too many tasks waiting to run in the background, the search doesn't get started and the state
+     * stays {@link State#IDLE}.
+     */
+    public void start(PathNavigationRegion cache) {
         this.chunkCache = cache;
+        task = MekanismExecutor.submit("Digital Miner Search", Priority.NORMAL, tile, this::search, this::finish);
+        if (task == null) {
+            chunkCache = null;
+        } else {
+            state = State.SEARCHING;
+        }
+    }
+
+    /**
+     * Stops the search if it is still running.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (task != null) {
+            task.cancel();
+        }
     }
 
-    @Override
-    public void run() {
-        state = State.SEARCHING;
+    @Nullable
+    private Long2ObjectMap<BitSet> search() {
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
-            state = State.FINISHED;
-            return;
+            return null;
         }
         Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
         BlockPos pos = tile.getStartingPos();
@@ -58,9 +86,9 @@ public class ThreadMinerSearch extends Thread {
         Block info;
         BlockPos minerPos = tile.getBlockPos();
         for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+            if (cancelled || tile.isRemoved()) {
+                //Make sure the miner is still valid and that the search didn't get cancelled
+                return null;
             }
             BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
             if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
@@ -91,11 +119,15 @@ public class ThreadMinerSearch extends Thread {
             }
         }
 
+        return oresToMine;
+    }
+
+    private void finish(@Nullable Long2ObjectMap<BitSet> result) {
         state = State.FINISHED;
         chunkCache = null;
-        if (tile.searcher == this) {
+        if (result != null && tile.searcher == this) {
             //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+            tile.updateFromSearch(result, found);
         }
     }
 
@@ -0,0 +1,51 @@
+package mekanism.common.content.qio;
+
+import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the metadata of a drive in memory, so that it only has to be written to the drive's stack when it gets flushed rather than after every change.
+ */
+class DriveMetadataTracker {
+
+    @Nullable
+    private DriveMetadata written;
+    private long count;
+    private int types;
+
+    /**
+     * Updates the in memory metadata.
+     *
+     * @param count Total number of items stored in the drive.
+     * @param types Number of item types stored in the drive.
+     */
+    void update(long count, int types) {
+        this.count = count;
+        this.types = types;
+    }
+
+    /**
+     * @return {@code true} if the in memory metadata differs from what was last written to the drive.
+     */
+    boolean isDirty() {
+        return written == null || written.count() != count || written.types() != types;
+    }
+
+    /**
+     * Gets the metadata that has to be written to the drive, and marks it as having been written.
+     *
+     * @return The metadata to write, or {@code null} if the drive already has the current metadata.
+     */
+    @Nullable
+    DriveMetadata flush() {
+        return isDirty() ? forceFlush() : null;
+    }
+
+    /**
+     * Gets the current metadata and marks it as having been written, regardless of if it changed since the last time it was written.
+     */
+    DriveMetadata forceFlush() {
+        written = new DriveMetadata(count, types);
+        return written;
+    }
+}
@@ -50,6 +50,13 @@ public interface IQIODriveItem {
             serializedMap[i++] = uuid.getLeastSignificantBits();
             serializedMap[i++] = entry.getLongValue();
         }
+        writeItemMap(stack, serializedMap);
+    }
+
+    /**
+     * Writes an item map that has already been encoded in the compact form described by {@link #writeItemMap(ItemStack, QIODriveData)} to the stack.
+     */
+    static void writeItemMap(ItemStack stack, long[] serializedMap) {
         ItemDataUtils.setLongArrayOrRemove(stack, NBTConstants.QIO_ITEM_MAP, serializedMap);
     }
 
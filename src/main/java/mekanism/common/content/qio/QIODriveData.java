@@ -2,6 +2,8 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.UUID;
+import java.util.function.Function;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
@@ -14,7 +16,16 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    private final DriveMetadataTracker metadata = new DriveMetadataTracker();
     private long itemCount;
+    /**
+     * Whether the contents of this drive changed since the last time its metadata was flushed.
+     */
+    private boolean changed;
+    /**
+     * Whether the contents of this drive changed since the last time its item map was saved.
+     */
+    private boolean needsSave;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -27,6 +38,7 @@ public class QIODriveData {
         item.loadItemMap(stack, this);
         // update cached item count value
         itemCount = itemMap.values().longStream().sum();
+        metadata.update(itemCount, itemMap.size());
 
         key.updateMetadata(this);
     }
@@ -41,8 +53,7 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            onContentsChanged();
         }
         return amount - toAdd;
     }
@@ -58,12 +69,88 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            onContentsChanged();
         }
         return removed;
     }
 
+    private void onContentsChanged() {
+        needsSave = true;
+        metadata.update(itemCount, itemMap.size());
+        if (!changed) {
+            //Only mark the holder as needing to save the first time we change since the last flush
+            changed = true;
+            key.dataUpdate();
+        }
+    }
+
+    /**
+     * Writes the metadata to the drive's stack if it changed since the last time it was written. This is called once per tick by the frequency, so that bulk
+     * transfers don't have to write the metadata after every single addition or removal.
+     */
+    public void flushMetadata() {
+        if (changed) {
+            changed = false;
+            DriveMetadata meta = metadata.flush();
+            if (meta != null) {
+                key.writeMetadata(meta);
+            }
+        }
+    }
+
+    /**
+     * Gets the current metadata of this drive, and marks it as having been written to the drive's stack.
+     */
+    DriveMetadata forceFlushMetadata() {
+        changed = false;
+        return metadata.forceFlush();
+    }
+
+    /**
+     * @return {@code true} if the item map on the drive's stack is out of date.
+     */
+    public boolean hasUnsavedChanges() {
+        return needsSave;
+    }
+
+    /**
+     * Marks the item map as having been written to the drive's stack.
+     */
+    void onSaved() {
+        needsSave = false;
+    }
+
+    /**
+     * Writes the item map to the drive's stack if it changed since it was last saved. The map is encoded straight into the compact form described by
+     * {@link IQIODriveItem#writeItemMap(ItemStack, QIODriveData)}.
+     *
+     * @param uuidLookup Lookup for the uuid that represents each stored type.
+     *
+     * @return {@code true} if the item map was written.
+     */
+    boolean saveChanged(Function<HashedItem, UUID> uuidLookup) {
+        if (!needsSave) {
+            return false;
+        }
+        ItemStack stack = key.getDriveStack();
+        if (!(stack.getItem() instanceof IQIODriveItem)) {
+            Mekanism.logger.error("Tried to save data map to an invalid item. Something has gone very wrong!");
+            return false;
+        }
+        long[] serializedMap = new long[3 * itemMap.size()];
+        int i = 0;
+        for (Object2LongMap.Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            UUID uuid = uuidLookup.apply(entry.getKey());
+            serializedMap[i++] = uuid.getMostSignificantBits();
+            serializedMap[i++] = uuid.getLeastSignificantBits();
+            serializedMap[i++] = entry.getLongValue();
+        }
+        IQIODriveItem.writeItemMap(stack, serializedMap);
+        needsSave = false;
+        key.dataUpdate();
+        return true;
+    }
+
     public long getStored(HashedItem type) {
         return itemMap.getOrDefault(type, 0L);
     }
@@ -95,6 +182,7 @@ public class QIODriveData {
     public record QIODriveKey(IQIODriveHolder holder, int driveSlot) {
 
         public void save(QIODriveData data) {
+            data.onSaved();
             holder.save(driveSlot, data);
         }
 
@@ -103,9 +191,12 @@ public class QIODriveData {
         }
 
         public void updateMetadata(QIODriveData data) {
+            writeMetadata(data.forceFlushMetadata());
+        }
+
+        private void writeMetadata(DriveMetadata meta) {
             ItemStack stack = getDriveStack();
             if (stack.getItem() instanceof IQIODriveItem) {
-                DriveMetadata meta = new DriveMetadata(data.itemCount, data.itemMap.size());
                 meta.write(stack);
             } else {
                 Mekanism.logger.error("Tried to update QIO meta values on an invalid ItemStack. Something has gone very wrong!");
@@ -2,9 +2,18 @@ package mekanism.common.content.qio;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -14,7 +23,6 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.ObjLongConsumer;
@@ -31,7 +39,6 @@ import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
@@ -42,26 +49,38 @@ import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.util.Lazy;
+import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.Nullable;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
-    private static final Random rand = new Random();
+    /**
+     * How often in ticks the drives of a frequency get saved if they have changed.
+     */
+    private static final int SAVE_INTERVAL = 100;
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
+    // dense indices for the drives, so that item types can keep track of which drives contain them using a bitset
+    private final Object2IntMap<QIODriveKey> driveIndices = new Object2IntOpenHashMap<>();
+    private final List<@Nullable QIODriveData> drivesByIndex = new ArrayList<>();
+    private final IntArrayList freeDriveIndices = new IntArrayList();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // dense ids for the item types, so that the lookup maps can store primitive postings instead of sets of items
+    private final List<@Nullable QIOItemTypeData> typesById = new ArrayList<>();
+    private final IntArrayList freeTypeIds = new IntArrayList();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
-    // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
-    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
+    // efficiently keep track of the tags utilized by the items stored (tag -> [type ids])
+    private final Map<String, IntSet> tagLookupMap = new HashMap<>();
+    // efficiently keep track of the modids utilized by the items stored (modid -> [type ids])
+    private final Map<String, IntSet> modIDLookupMap = new HashMap<>();
+    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored (item -> [type ids])
+    private final Map<Item, IntSet> fuzzyItemLookupMap = new IdentityHashMap<>();
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardTags = new HashSet<>();
@@ -134,7 +153,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             data = itemDataMap.get(type);
             if (data == null) {
                 // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
+                data = new QIOItemTypeData(type, -1);
             }
         }
         return amount - data.add(amount, action);
@@ -166,29 +185,74 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
+        int id;
+        if (freeTypeIds.isEmpty()) {
+            id = typesById.size();
+            typesById.add(null);
+        } else {
+            id = freeTypeIds.popInt();
+        }
+        QIOItemTypeData data = new QIOItemTypeData(type, id);
+        typesById.set(id, data);
         ItemStack stack = type.getInternalStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
-            }
+        if (addTagPostings(data)) {
+            //If we didn't have all the keys for tags this item has, then we need to clear our wildcard cache
+            // as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
         }
-        modIDLookupMap.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
+        if (addPosting(modIDLookupMap, MekanismUtils.getModId(stack), id)) {
             //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
             // as our new modid may be valid for some of our wildcards
             modIDWildcardCache.clear();
             failedWildcardModIDs.clear();
-            return new HashSet<>();
-        }).add(type);
+        }
         //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
-        //Ensure we have a matching uuid for this item
-        QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        addPosting(fuzzyItemLookupMap, stack.getItem(), id);
+        //Ensure we have a matching uuid for this item, and cache it so that we don't have to look it up again when saving
+        data.uuid = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
+        return data;
+    }
+
+    /**
+     * @return {@code true} if any of the tags were not already in the lookup map.
+     */
+    private boolean addTagPostings(QIOItemTypeData data) {
+        data.tags = TagCache.getItemTags(data.itemType.getInternalStack());
+        boolean addedKey = false;
+        for (String tag : data.tags) {
+            addedKey |= addPosting(tagLookupMap, tag, data.id);
+        }
+        return addedKey;
+    }
+
+    /**
+     * @return {@code true} if the key was not already in the lookup map.
+     */
+    private static <KEY> boolean addPosting(Map<KEY, IntSet> lookupMap, KEY key, int id) {
+        IntSet ids = lookupMap.get(key);
+        if (ids == null) {
+            ids = new IntOpenHashSet();
+            ids.add(id);
+            lookupMap.put(key, ids);
+            return true;
+        }
+        ids.add(id);
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the key was removed from the lookup map as there are no more ids for it.
+     */
+    private static <KEY> boolean removePosting(Map<KEY, IntSet> lookupMap, KEY key, int id) {
+        IntSet ids = lookupMap.get(key);
+        //In theory if we are removing an item, and it existed we should have postings corresponding to it,
+        // but double check that it is not null just in case
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            lookupMap.remove(key);
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -246,42 +310,46 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
+        QIOItemTypeData data = itemDataMap.remove(type);
+        if (data == null) {
+            return;
+        }
+        int id = data.id;
+        typesById.set(id, null);
+        freeTypeIds.add(id);
+        boolean removedTag = false;
+        for (String tag : data.tags) {
+            removedTag |= removePosting(tagLookupMap, tag, id);
+        }
+        if (removedTag) {
             //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
             // matching a tag that is no longer stored
             tagWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
         }
         ItemStack stack = type.getInternalStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
+        if (removePosting(modIDLookupMap, MekanismUtils.getModId(stack), id)) {
+            //If there are no more items for the mod, clear our wildcard cache as it may have some wildcards that are
+            // matching a modid that is no longer stored
             modIDWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
         }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
+        removePosting(fuzzyItemLookupMap, stack.getItem(), id);
     }
 
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return Collections.unmodifiableSet(fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet()));
+    public List<HashedItem> getTypesForItem(Item item) {
+        IntSet ids = fuzzyItemLookupMap.get(item);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<HashedItem> types = new ArrayList<>(ids.size());
+        for (IntIterator iter = ids.iterator(); iter.hasNext(); ) {
+            QIOItemTypeData data = typesById.get(iter.nextInt());
+            if (data != null) {
+                types.add(data.itemType);
+            }
+        }
+        return types;
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
@@ -289,33 +357,44 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(tagLookupMap.get(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
         return getStacksWithCounts(modIDLookupMap.get(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable IntSet ids) {
+        if (ids == null || ids.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStored(item));
-        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(ids.size());
+        addStacksWithCounts(ret, ids);
         return ret;
     }
 
+    /**
+     * Adds the types and counts of the given type ids to the given map. If an item has multiple postings that get added to the same map, it will just be overwritten
+     * with the same value.
+     */
+    private void addStacksWithCounts(Object2LongMap<HashedItem> map, IntSet ids) {
+        for (IntIterator iter = ids.iterator(); iter.hasNext(); ) {
+            QIOItemTypeData data = typesById.get(iter.nextInt());
+            if (data != null) {
+                map.put(data.itemType, data.count);
+            }
+        }
+    }
+
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
+        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, (HashedItem type) -> getStored(type));
+                IntSet ids = tagLookupMap.get(match);
+                if (ids != null) {
+                    //Note: An item may have multiple tags that all match the wildcard, but as we read the count directly
+                    // from the posting's type data, adding it again just overwrites it with the same value
+                    addStacksWithCounts(ret, ids);
                 }
             }
             return ret;
@@ -327,11 +406,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
+                IntSet ids = modIDLookupMap.get(match);
+                if (ids != null) {
+                    //Note: Each stack only has one modid, so while we may have multiple modids that match our
                     // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStored(item));
+                    addStacksWithCounts(ret, ids);
                 }
             }
             return ret;
@@ -388,7 +467,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public void setColor(EnumColor color) {
         if (this.color != color) {
             this.color = color;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -437,6 +516,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public boolean tick() {
         boolean superDirty = super.tick();
+        for (QIODriveData data : driveMap.values()) {
+            //Write the metadata of any drives that changed this tick
+            data.flushMetadata();
+        }
         if (!updatedItems.isEmpty() || needsUpdate) {
             //Only calculate the packet and the update map if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
@@ -463,14 +546,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             updatedItems.clear();
             needsUpdate = false;
         }
-        // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
-        // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
+        // if something has changed, we'll subsequently run a save operation within the next 100 ticks.
+        // which tick is based on the frequency's identity, so that we avoid bogging down the CPU by saving all QIO frequencies at once
         // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
         // is forcibly shut down.
-        if (isDirty && rand.nextInt(100) == 0) {
+        if (isDirty && isSaveTick()) {
             //Note: We don't have this affect our super dirty value as this is for if the drives are dirty,
             // not for if the frequency is dirty
-            saveAll();
+            saveChanged();
             isDirty = false;
         }
 
@@ -478,7 +561,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
             tagWildcardCache.clear();
-            itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType));
+            itemDataMap.values().forEach(this::addTagPostings);
         }
         return superDirty;
     }
@@ -515,6 +598,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
+        driveIndices.clear();
+        drivesByIndex.clear();
+        freeDriveIndices.clear();
         playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
@@ -572,8 +658,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            int driveIndex;
+            if (freeDriveIndices.isEmpty()) {
+                driveIndex = drivesByIndex.size();
+                drivesByIndex.add(data);
+            } else {
+                driveIndex = freeDriveIndices.popInt();
+                drivesByIndex.set(driveIndex, data);
+            }
+            driveIndices.put(key, driveIndex);
             data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, value);
+                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(driveIndex, value);
                 markForUpdate(storedKey);
             });
             setNeedsUpdate();
@@ -585,11 +680,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return;
         }
         QIODriveData data = driveMap.get(key);
+        int driveIndex = driveIndices.removeInt(key);
+        drivesByIndex.set(driveIndex, null);
+        freeDriveIndices.add(driveIndex);
         if (updateItemMap) {
             data.getItemMap().forEach((storedKey, value) -> {
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.containingDrives.clear(driveIndex);
                     itemData.count -= value;
                     totalCount -= value;
                     markForUpdate(storedKey);
@@ -610,13 +708,43 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         key.save(data);
     }
 
+    /**
+     * Saves any drives that have changes that haven't been written to their stacks yet.
+     */
     public void saveAll() {
         driveMap.forEach((key, value) -> {
-            key.updateMetadata(value);
-            key.save(value);
+            if (value.hasUnsavedChanges()) {
+                key.updateMetadata(value);
+                key.save(value);
+            }
         });
     }
 
+    private boolean isSaveTick() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return true;
+        }
+        return server.getTickCount() % SAVE_INTERVAL == Math.floorMod(HashCommon.mix(getIdentity().hashCode()), SAVE_INTERVAL);
+    }
+
+    /**
+     * Writes the item maps of any drives that changed since they were last saved to their stacks.
+     */
+    private void saveChanged() {
+        for (QIODriveData data : driveMap.values()) {
+            data.saveChanged(this::getUUIDForSave);
+        }
+    }
+
+    private UUID getUUIDForSave(HashedItem type) {
+        QIOItemTypeData data = itemDataMap.get(type);
+        if (data == null || data.uuid == null) {
+            return QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
+        }
+        return data.uuid;
+    }
+
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         isDirty = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
@@ -624,6 +752,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             if (changedItem != null) {
                 updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
             }
+            //Make sure the viewers get updated even if the change was the last drive being removed
+            requestTick();
         }
     }
 
@@ -640,34 +770,45 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
+        /**
+         * Dense id of this type in the frequency, or {@code -1} if this type data is just being used for simulation and isn't actually stored.
+         */
+        private final int id;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
-
-        public QIOItemTypeData(HashedItem itemType) {
+        /**
+         * Indices of the drives that contain this type.
+         */
+        private final BitSet containingDrives = new BitSet();
+        private List<String> tags = Collections.emptyList();
+        @Nullable
+        private UUID uuid;
+
+        public QIOItemTypeData(HashedItem itemType, int id) {
             this.itemType = itemType;
+            this.id = id;
         }
 
-        private void addFromDrive(QIODriveData data, long toAdd) {
+        private void addFromDrive(int driveIndex, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            containingDrives.set(driveIndex);
             setNeedsUpdate();
         }
 
         private long add(long amount, Action action) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
+            for (int driveIndex = containingDrives.nextSetBit(0); driveIndex >= 0; driveIndex = containingDrives.nextSetBit(driveIndex + 1)) {
+                toAdd = addItemsToDrive(toAdd, driveIndex, action);
                 if (toAdd == 0) {
                     break;
                 }
             }
             // next, we add the items to any drive that will take it
             if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
+                for (int driveIndex = 0, drives = drivesByIndex.size(); driveIndex < drives; driveIndex++) {
+                    if (!containingDrives.get(driveIndex) && drivesByIndex.get(driveIndex) != null) {
+                        toAdd = addItemsToDrive(toAdd, driveIndex, action);
                         if (toAdd == 0) {
                             break;
                         }
@@ -683,22 +824,22 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return toAdd;
         }
 
-        private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
+        private long addItemsToDrive(long toAdd, int driveIndex, Action action) {
+            long rejects = drivesByIndex.get(driveIndex).add(itemType, toAdd, action);
             if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                containingDrives.set(driveIndex);
             }
             return rejects;
         }
 
         private long remove(long amount, Action action) {
             long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (int driveIndex = containingDrives.nextSetBit(0); driveIndex >= 0; driveIndex = containingDrives.nextSetBit(driveIndex + 1)) {
+                QIODriveData data = drivesByIndex.get(driveIndex);
                 removed += data.remove(itemType, amount - removed, action);
                 // remove this drive from containingDrives if it doesn't have this item anymore
                 if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
+                    containingDrives.clear(driveIndex);
                 }
                 // break early if we found enough items
                 if (removed == amount) {
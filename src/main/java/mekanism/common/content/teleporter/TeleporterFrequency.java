@@ -9,7 +9,6 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
-import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -52,7 +51,7 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
     public void setColor(EnumColor color) {
         if (this.color != color) {
             this.color = color;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -70,14 +69,6 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
         return changedData;
     }
 
-    private Coord4D getCoord(BlockEntity tile) {
-        if (tile instanceof ITileWrapper tileWrapper) {
-            //Note: This should be the case the majority of the time, and allows us to use the cached coord4d object
-            return tileWrapper.getTileCoord();
-        }
-        return new Coord4D(tile);
-    }
-
     public Coord4D getClosestCoords(Coord4D coord) {
         Coord4D closest = null;
         for (Coord4D iterCoord : activeCoords) {
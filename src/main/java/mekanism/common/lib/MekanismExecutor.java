@@ -0,0 +1,228 @@
+package mekanism.common.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import mekanism.common.Mekanism;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared pool of background threads for any work that is too expensive to do on the server thread. The work runs off thread, and the result then gets handed back to
+ * the server thread at the end of the tick, so that the result can be safely applied to the world.
+ */
+public final class MekanismExecutor {
+
+    /**
+     * Maximum number of tasks that may be waiting to run before new tasks get rejected.
+     */
+    private static final int MAX_QUEUED_TASKS = 1_024;
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadPoolExecutor EXECUTOR;
+    private static final Queue<Task<?>> COMPLETED = new ConcurrentLinkedQueue<>();
+    private static final Map<String, TaskStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        //Leave at least one core for the server thread
+        int threads = Mth.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, 4);
+        //Note: We use a shared priority queue rather than a work stealing pool as work stealing pools don't allow ordering tasks by priority, and as our tasks are
+        // fairly coarse, having idle threads take the next task from the shared queue balances the load just as well
+        EXECUTOR = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Mekanism Worker-" + THREAD_ID.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private MekanismExecutor() {
+    }
+
+    /**
+     * Submits a task to be run in the background.
+     *
+     * @param name       Name of the task, used for logging and metrics.
+     * @param priority   Priority of the task compared to other tasks that are waiting to run.
+     * @param owner      Block entity the task is for, if the block entity gets removed before the task finishes, the task is cancelled.
+     * @param work       Work to do off thread. This must not modify the world.
+     * @param onComplete Called on the server thread at the end of the tick the work finished on, unless the task was cancelled.
+     *
+     * @return The task, or {@code null} if there are too many tasks waiting to run.
+     */
+    @Nullable
+    public static <T> Task<T> submit(String name, Priority priority, @Nullable BlockEntity owner, Supplier<T> work, Consumer<T> onComplete) {
+        if (EXECUTOR.getQueue().size() >= MAX_QUEUED_TASKS) {
+            Mekanism.logger.warn("Rejecting background task {} as there are already {} tasks waiting to run.", name, MAX_QUEUED_TASKS);
+            return null;
+        }
+        Task<T> task = new Task<>(name, priority, owner, work, onComplete);
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Runs the completion handlers of any tasks that finished since the last time this was called.
+     *
+     * @apiNote Only call this on the server thread.
+     */
+    public static void runCompletions() {
+        Task<?> task;
+        while ((task = COMPLETED.poll()) != null) {
+            try {
+                task.complete();
+            } catch (Exception e) {
+                Mekanism.logger.error("Error completing background task: {}", task.name, e);
+            }
+        }
+    }
+
+    /**
+     * @return Number of tasks waiting to run.
+     */
+    public static int getQueuedTasks() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * @return Number of tasks that are currently running.
+     */
+    public static int getRunningTasks() {
+        return EXECUTOR.getActiveCount();
+    }
+
+    /**
+     * @return Number of tasks that finished running but haven't been completed on the server thread yet.
+     */
+    public static int getPendingCompletions() {
+        return COMPLETED.size();
+    }
+
+    /**
+     * @return Stats of each type of task that has been run, sorted by name.
+     */
+    public static List<TaskStats> getStats() {
+        List<TaskStats> stats = new ArrayList<>(STATS.values());
+        stats.sort((a, b) -> a.name().compareTo(b.name()));
+        return stats;
+    }
+
+    /**
+     * Cancels all tasks that are waiting to run or to be completed.
+     */
+    public static void reset() {
+        List<Runnable> queued = new ArrayList<>();
+        EXECUTOR.getQueue().drainTo(queued);
+        for (Runnable runnable : queued) {
+            ((Task<?>) runnable).cancel();
+        }
+        COMPLETED.clear();
+        STATS.clear();
+    }
+
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
+    public static final class Task<T> implements Runnable, Comparable<Task<?>> {
+
+        private final String name;
+        private final Priority priority;
+        private final long sequence = SEQUENCE.getAndIncrement();
+        private final long submitted = System.nanoTime();
+        @Nullable
+        private final BlockEntity owner;
+        private final Supplier<T> work;
+        private final Consumer<T> onComplete;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private T result;
+
+        private Task(String name, Priority priority, @Nullable BlockEntity owner, Supplier<T> work, Consumer<T> onComplete) {
+            this.name = name;
+            this.priority = priority;
+            this.owner = owner;
+            this.work = work;
+            this.onComplete = onComplete;
+        }
+
+        /**
+         * Cancels the task. If it is already running, the work is expected to check {@link #isCancelled()} and stop early if it can.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled || owner != null && owner.isRemoved();
+        }
+
+        /**
+         * @return {@code true} if the task was completed on the server thread, or won't be completed as it was cancelled or failed.
+         */
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled()) {
+                done = true;
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                result = work.get();
+            } catch (Exception e) {
+                Mekanism.logger.error("Error running background task: {}", name, e);
+                done = true;
+                return;
+            }
+            long end = System.nanoTime();
+            STATS.compute(name, (n, stats) -> stats == null ? new TaskStats(n, 1, start - submitted, end - start) : stats.add(start - submitted, end - start));
+            //Note: Adding to the queue publishes the result to the server thread
+            COMPLETED.add(this);
+        }
+
+        private void complete() {
+            done = true;
+            if (!isCancelled()) {
+                onComplete.accept(result);
+            }
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            int compare = priority.compareTo(other.priority);
+            return compare == 0 ? Long.compare(sequence, other.sequence) : compare;
+        }
+    }
+
+    public record TaskStats(String name, long count, long waitNanos, long runNanos) {
+
+        private TaskStats add(long wait, long run) {
+            return new TaskStats(name, count + 1, waitNanos + wait, runNanos + run);
+        }
+
+        public double averageWaitMillis() {
+            return waitNanos / (count * 1_000_000D);
+        }
+
+        public double averageRunMillis() {
+            return runNanos / (count * 1_000_000D);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.File;
 import java.util.function.Supplier;
 import mekanism.common.Mekanism;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtUtils;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import net.minecraftforge.server.ServerLifecycleHooks;
@@ -13,19 +14,19 @@ public abstract class MekanismSavedData extends SavedData {
 
     public abstract void load(@NotNull CompoundTag nbt);
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote We capture the data on the calling thread, but compress and write it to disk on the {@link SavedDataWriter}'s I/O thread.
+     */
     @Override
     public void save(@NotNull File file) {
         if (isDirty()) {
-            //This is loosely based on Refined Storage's RSSavedData's system of saving first to a temp file
-            // to reduce the odds of corruption if the user's computer crashes while the file is being written
-            File tempFile = file.toPath().getParent().resolve(file.getName() + ".tmp").toFile();
-            super.save(tempFile);
-            if (file.exists() && !file.delete()) {
-                Mekanism.logger.error("Failed to delete " + file.getName());
-            }
-            if (!tempFile.renameTo(file)) {
-                Mekanism.logger.error("Failed to rename " + tempFile.getName());
-            }
+            CompoundTag data = new CompoundTag();
+            data.put("data", save(new CompoundTag()));
+            NbtUtils.addCurrentDataVersion(data);
+            SavedDataWriter.queue(file, data);
+            setDirty(false);
         }
     }
 
@@ -0,0 +1,134 @@
+package mekanism.common.lib;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.Mekanism;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+/**
+ * Writes the data captured by {@link MekanismSavedData} to disk on a dedicated I/O thread, so that compressing and writing the data doesn't happen on the server
+ * thread.
+ *
+ * @apiNote Writes for the same file are coalesced, so if a file gets saved again before the previous write started, only the newest data is written.
+ */
+public final class SavedDataWriter {
+
+    /**
+     * Maximum number of files that may be waiting to be written before saving blocks until the writer catches up.
+     */
+    private static final int MAX_PENDING_WRITES = 64;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Mekanism Saved Data Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Semaphore PENDING_PERMITS = new Semaphore(MAX_PENDING_WRITES);
+    private static final Map<Path, CompoundTag> PENDING = new ConcurrentHashMap<>();
+    private static final Map<String, SaveStats> STATS = new ConcurrentHashMap<>();
+    private static volatile CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+    private SavedDataWriter() {
+    }
+
+    /**
+     * Queues the given data to be written to the given file.
+     *
+     * @param file File to write to.
+     * @param data Data to write. This must not be modified after it is passed to this method.
+     */
+    static void queue(File file, CompoundTag data) {
+        Path path = file.toPath();
+        if (PENDING.put(path, data) == null) {
+            //There wasn't already a pending write for this file, so we need to schedule one
+            if (!PENDING_PERMITS.tryAcquire()) {
+                //Apply backpressure if the writer has fallen too far behind
+                Mekanism.logger.debug("Saved data writer is behind, waiting for pending writes to finish.");
+                PENDING_PERMITS.acquireUninterruptibly();
+            }
+            lastWrite = CompletableFuture.runAsync(() -> {
+                try {
+                    write(path);
+                } finally {
+                    PENDING_PERMITS.release();
+                }
+            }, EXECUTOR);
+        }
+    }
+
+    /**
+     * Waits for all queued writes to finish.
+     */
+    public static void flush() {
+        try {
+            //Note: As the executor is single threaded, once the last write has finished all prior writes have as well
+            lastWrite.get(1, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            Mekanism.logger.error("Failed to flush pending saved data writes.", e);
+        }
+    }
+
+    /**
+     * @return Number of files waiting to be written.
+     */
+    public static int getPendingWrites() {
+        return PENDING.size();
+    }
+
+    /**
+     * @return Stats of the most recent write of each file, sorted by file name.
+     */
+    public static List<SaveStats> getStats() {
+        List<SaveStats> stats = new ArrayList<>(STATS.values());
+        stats.sort((a, b) -> a.name().compareTo(b.name()));
+        return stats;
+    }
+
+    private static void write(Path path) {
+        CompoundTag data = PENDING.remove(path);
+        if (data == null) {
+            //Already written by a previous write for the same file
+            return;
+        }
+        long start = System.nanoTime();
+        //This is loosely based on Refined Storage's RSSavedData's system of saving first to a temp file
+        // to reduce the odds of corruption if the user's computer crashes while the file is being written
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            NbtIo.writeCompressed(data, tempFile.toFile());
+            long size = Files.size(tempFile);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String name = path.getFileName().toString();
+            SaveStats stats = new SaveStats(name, size, System.nanoTime() - start);
+            STATS.put(name, stats);
+            Mekanism.logger.debug("Saved {} ({} bytes) in {} ms", name, size, stats.millis());
+        } catch (IOException e) {
+            Mekanism.logger.error("Could not save data to {}", path, e);
+        }
+    }
+
+    public record SaveStats(String name, long size, long nanos) {
+
+        public double millis() {
+            return nanos / 1_000_000D;
+        }
+    }
+}
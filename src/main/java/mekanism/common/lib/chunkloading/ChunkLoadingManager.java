@@ -0,0 +1,94 @@
+package mekanism.common.lib.chunkloading;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.GlobalPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of how many chunks each of our chunk loaders has forced, so that the amount of chunks we keep loaded can be limited per player and globally.
+ */
+public class ChunkLoadingManager {
+
+    public static final ChunkLoadingManager INSTANCE = new ChunkLoadingManager();
+
+    private final Map<GlobalPos, LoaderInfo> loaders = new HashMap<>();
+    private final Object2IntMap<UUID> chunksPerOwner = new Object2IntOpenHashMap<>();
+    private int totalChunks;
+
+    private ChunkLoadingManager() {
+    }
+
+    /**
+     * Checks if the loader at the given position is allowed to have the given number of chunks forced, taking into account any chunks it already has forced.
+     */
+    public boolean canLoad(GlobalPos pos, @Nullable UUID owner, int chunks) {
+        LoaderInfo existing = loaders.get(pos);
+        int added = existing == null ? chunks : chunks - existing.chunks();
+        int globalLimit = MekanismConfig.general.chunkLoadingGlobalLimit.get();
+        if (added > 0 && globalLimit > 0 && totalChunks + added > globalLimit) {
+            return false;
+        }
+        int playerLimit = MekanismConfig.general.chunkLoadingPlayerLimit.get();
+        if (owner != null && playerLimit > 0) {
+            int ownerAdded = existing != null && owner.equals(existing.owner()) ? added : chunks;
+            return ownerAdded <= 0 || chunksPerOwner.getInt(owner) + ownerAdded <= playerLimit;
+        }
+        return true;
+    }
+
+    /**
+     * Updates how many chunks the loader at the given position currently has forced.
+     */
+    public void update(GlobalPos pos, @Nullable UUID owner, int chunks) {
+        LoaderInfo previous = chunks > 0 ? loaders.put(pos, new LoaderInfo(pos, owner, chunks)) : loaders.remove(pos);
+        if (previous != null) {
+            totalChunks -= previous.chunks();
+            removeOwnerChunks(previous.owner(), previous.chunks());
+        }
+        if (chunks > 0) {
+            totalChunks += chunks;
+            if (owner != null) {
+                chunksPerOwner.mergeInt(owner, chunks, Integer::sum);
+            }
+        }
+    }
+
+    private void removeOwnerChunks(@Nullable UUID owner, int chunks) {
+        if (owner != null) {
+            int remaining = chunksPerOwner.getInt(owner) - chunks;
+            if (remaining > 0) {
+                chunksPerOwner.put(owner, remaining);
+            } else {
+                chunksPerOwner.removeInt(owner);
+            }
+        }
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public int getChunks(UUID owner) {
+        return chunksPerOwner.getInt(owner);
+    }
+
+    public List<LoaderInfo> getLoaders() {
+        return new ArrayList<>(loaders.values());
+    }
+
+    public void reset() {
+        loaders.clear();
+        chunksPerOwner.clear();
+        totalChunks = 0;
+    }
+
+    public record LoaderInfo(GlobalPos pos, @Nullable UUID owner, int chunks) {
+    }
+}
@@ -0,0 +1,267 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Set of block positions that doesn't keep a {@link BlockPos} alive per element. Positions inside the bounds the set was created with are stored as a single bit
+ * relative to the minimum position of the bounds, and any positions outside the bounds fall back to being stored as {@link BlockPos#asLong()}.
+ *
+ * @apiNote Iterating this set creates a new {@link BlockPos} for each element, use {@link #longIterator()} instead when the positions don't need to be kept.
+ */
+public class BlockPosSet implements Iterable<BlockPos> {
+
+    @Nullable
+    private final BlockPos min;
+    private final int sizeX, sizeZ, volume;
+    @Nullable
+    private final BitSet inBounds;
+    @Nullable
+    private LongOpenHashSet outOfBounds;
+    private int size;
+    @Nullable
+    private Set<BlockPos> view;
+
+    /**
+     * Creates a set with no bounds, that stores all elements as {@link BlockPos#asLong()}.
+     */
+    public BlockPosSet() {
+        min = null;
+        sizeX = sizeZ = volume = 0;
+        inBounds = null;
+    }
+
+    /**
+     * Creates a set that bit packs all positions within the given bounds.
+     */
+    public BlockPosSet(VoxelCuboid bounds) {
+        min = bounds.getMinPos();
+        sizeX = bounds.length();
+        sizeZ = bounds.width();
+        volume = sizeX * sizeZ * bounds.height();
+        inBounds = new BitSet(volume);
+    }
+
+    /**
+     * @return Index of the bit for the position, or {@code -1} if the position is outside the bounds.
+     */
+    private int index(int x, int y, int z) {
+        if (min == null) {
+            return -1;
+        }
+        int dx = x - min.getX(), dz = z - min.getZ();
+        if (dx < 0 || dx >= sizeX || dz < 0 || dz >= sizeZ) {
+            return -1;
+        }
+        int dy = y - min.getY();
+        if (dy < 0) {
+            return -1;
+        }
+        int index = (dy * sizeZ + dz) * sizeX + dx;
+        return index < volume ? index : -1;
+    }
+
+    private long fromIndex(int index) {
+        //Note: This is only called when we have a min position
+        int dx = index % sizeX;
+        int layer = index / sizeX;
+        return BlockPos.asLong(min.getX() + dx, min.getY() + layer / sizeZ, min.getZ() + layer % sizeZ);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(long pos) {
+        return contains(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+    }
+
+    private boolean contains(int x, int y, int z) {
+        int index = index(x, y, z);
+        if (index != -1) {
+            return inBounds.get(index);
+        }
+        return outOfBounds != null && outOfBounds.contains(BlockPos.asLong(x, y, z));
+    }
+
+    /**
+     * @return {@code true} if the position was not already in the set.
+     */
+    public boolean add(BlockPos pos) {
+        return add(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * @return {@code true} if the position was not already in the set.
+     */
+    public boolean add(long pos) {
+        return add(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+    }
+
+    private boolean add(int x, int y, int z) {
+        int index = index(x, y, z);
+        if (index != -1) {
+            if (inBounds.get(index)) {
+                return false;
+            }
+            inBounds.set(index);
+        } else {
+            if (outOfBounds == null) {
+                outOfBounds = new LongOpenHashSet();
+            }
+            if (!outOfBounds.add(BlockPos.asLong(x, y, z))) {
+                return false;
+            }
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the position was in the set.
+     */
+    public boolean remove(BlockPos pos) {
+        return remove(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * @return {@code true} if the position was in the set.
+     */
+    public boolean remove(long pos) {
+        return remove(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+    }
+
+    private boolean remove(int x, int y, int z) {
+        int index = index(x, y, z);
+        if (index != -1) {
+            if (!inBounds.get(index)) {
+                return false;
+            }
+            inBounds.clear(index);
+        } else if (outOfBounds == null || !outOfBounds.remove(BlockPos.asLong(x, y, z))) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        if (inBounds != null) {
+            inBounds.clear();
+        }
+        outOfBounds = null;
+        size = 0;
+    }
+
+    /**
+     * Iterates the elements of this set as {@link BlockPos#asLong()}.
+     */
+    public LongIterator longIterator() {
+        return new LongIterator() {
+            private int nextIndex = inBounds == null ? -1 : inBounds.nextSetBit(0);
+            @Nullable
+            private final LongIterator outOfBoundsIterator = outOfBounds == null ? null : outOfBounds.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex != -1 || (outOfBoundsIterator != null && outOfBoundsIterator.hasNext());
+            }
+
+            @Override
+            public long nextLong() {
+                if (nextIndex != -1) {
+                    long pos = fromIndex(nextIndex);
+                    nextIndex = inBounds.nextSetBit(nextIndex + 1);
+                    return pos;
+                } else if (outOfBoundsIterator != null) {
+                    return outOfBoundsIterator.nextLong();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        LongIterator iterator = longIterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BlockPos next() {
+                return BlockPos.of(iterator.nextLong());
+            }
+        };
+    }
+
+    /**
+     * @return A read-only view of this set for use by things that need a {@link Set} of {@link BlockPos}.
+     */
+    public Set<BlockPos> asSet() {
+        if (view == null) {
+            view = new AbstractSet<>() {
+                @Override
+                public boolean contains(Object o) {
+                    return o instanceof BlockPos pos && BlockPosSet.this.contains(pos);
+                }
+
+                @NotNull
+                @Override
+                public Iterator<BlockPos> iterator() {
+                    return BlockPosSet.this.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return view;
+    }
+
+    @Override
+    public int hashCode() {
+        int code = 0;
+        for (LongIterator iterator = longIterator(); iterator.hasNext(); ) {
+            code += Long.hashCode(iterator.nextLong());
+        }
+        return code;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (!(obj instanceof BlockPosSet other) || size != other.size) {
+            return false;
+        }
+        for (LongIterator iterator = longIterator(); iterator.hasNext(); ) {
+            if (!other.contains(iterator.nextLong())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,15 @@
 package mekanism.common.lib.frequency;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import mekanism.api.Coord4D;
 import mekanism.api.IFrequency;
 import mekanism.api.NBTConstants;
 import mekanism.api.security.SecurityMode;
 import mekanism.common.network.BasePacketHandler;
+import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
@@ -27,6 +31,15 @@ public abstract class Frequency implements IFrequency {
     private boolean publicFreq;
 
     private final FrequencyType<?> frequencyType;
+    /**
+     * Positions of the tiles that are currently using this frequency.
+     */
+    private final Set<Coord4D> activeMembers = new ObjectOpenHashSet<>();
+    /**
+     * The manager this frequency is stored in, or {@code null} on the client or if it hasn't been added to one yet.
+     */
+    @Nullable
+    private FrequencyManager<?> manager;
 
     /**
      * @param uuid Should only be null if we have incomplete data that we are loading
@@ -48,6 +61,34 @@ public abstract class Frequency implements IFrequency {
         return dirty;
     }
 
+    /**
+     * Marks that persistent data was changed and the frequency needs to be saved.
+     */
+    protected void markDirty() {
+        dirty = true;
+        requestTick();
+    }
+
+    /**
+     * Makes sure this frequency gets ticked next tick even if no tiles are currently using it.
+     */
+    protected void requestTick() {
+        if (manager != null) {
+            manager.markActive(this);
+        }
+    }
+
+    void setManager(@Nullable FrequencyManager<?> manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * @return {@code true} if there are any tiles currently using this frequency.
+     */
+    public boolean hasActiveMembers() {
+        return !activeMembers.isEmpty();
+    }
+
     public void onRemove() {
         removed = true;
     }
@@ -60,6 +101,7 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by deactivating the block and the frequency needs to be saved.
      */
     public boolean onDeactivate(BlockEntity tile) {
+        activeMembers.remove(getCoord(tile));
         return false;
     }
 
@@ -67,9 +109,19 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by updating the block and the frequency needs to be saved.
      */
     public boolean update(BlockEntity tile) {
+        activeMembers.add(getCoord(tile));
+        requestTick();
         return false;
     }
 
+    protected static Coord4D getCoord(BlockEntity tile) {
+        if (tile instanceof ITileWrapper tileWrapper) {
+            //Note: This should be the case the majority of the time, and allows us to use the cached coord4d object
+            return tileWrapper.getTileCoord();
+        }
+        return new Coord4D(tile);
+    }
+
     public FrequencyType<?> getType() {
         return frequencyType;
     }
@@ -92,7 +144,7 @@ public abstract class Frequency implements IFrequency {
     public Frequency setPublic(boolean isPublic) {
         if (publicFreq != isPublic) {
             publicFreq = isPublic;
-            dirty = true;
+            markDirty();
         }
         return this;
     }
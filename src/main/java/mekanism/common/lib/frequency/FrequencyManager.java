@@ -1,6 +1,8 @@
 package mekanism.common.lib.frequency;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -28,6 +30,12 @@ public class FrequencyManager<FREQ extends Frequency> {
     private static final Set<FrequencyManager<?>> managers = new ObjectOpenHashSet<>();
 
     private final Map<Object, FREQ> frequencies = new LinkedHashMap<>();
+    /**
+     * Frequencies that are in use or that have changed, and therefore need to be ticked. Frequencies without any active members get removed after they have been
+     * ticked.
+     */
+    private final Set<Frequency> activeFrequencies = new ReferenceLinkedOpenHashSet<>();
+    private final List<Frequency> toTick = new ArrayList<>();
 
     /**
      * Note: This can and will be null on the client side
@@ -74,6 +82,7 @@ public class FrequencyManager<FREQ extends Frequency> {
     public static void reset() {
         for (FrequencyManager<?> manager : managers) {
             manager.frequencies.clear();
+            manager.activeFrequencies.clear();
             manager.dataHandler = null;
         }
         loaded = false;
@@ -83,7 +92,9 @@ public class FrequencyManager<FREQ extends Frequency> {
         FREQ freq = getFrequency(key);
         if (freq != null && freq.ownerMatches(ownerUUID)) {
             freq.onRemove();
+            freq.setManager(null);
             frequencies.remove(key);
+            activeFrequencies.remove(freq);
             markDirty();
             return true;
         }
@@ -99,6 +110,7 @@ public class FrequencyManager<FREQ extends Frequency> {
     public FREQ validateAndUpdate(BlockEntity tile, FREQ freq) {
         FREQ storedFreq = frequencies.computeIfAbsent(freq.getKey(), key -> {
             freq.setValid(true);
+            freq.setManager(this);
             markDirty();
             return freq;
         });
@@ -131,6 +143,7 @@ public class FrequencyManager<FREQ extends Frequency> {
     public FREQ getOrCreateFrequency(FrequencyIdentity identity, @Nullable UUID ownerUUID) {
         return frequencies.computeIfAbsent(identity.key(), key -> {
             FREQ freq = frequencyType.create(key, ownerUUID);
+            freq.setManager(this);
             freq.setPublic(identity.isPublic());
             markDirty();
             return freq;
@@ -139,9 +152,17 @@ public class FrequencyManager<FREQ extends Frequency> {
 
     public void addFrequency(FREQ freq) {
         frequencies.put(freq.getKey(), freq);
+        freq.setManager(this);
         markDirty();
     }
 
+    /**
+     * Marks that the given frequency needs to be ticked.
+     */
+    void markActive(Frequency freq) {
+        activeFrequencies.add(freq);
+    }
+
     protected void markDirty() {
         if (dataHandler != null) {
             dataHandler.setDirty();
@@ -153,10 +174,20 @@ public class FrequencyManager<FREQ extends Frequency> {
     }
 
     private void tickSelf() {
+        if (activeFrequencies.isEmpty()) {
+            return;
+        }
         boolean dirty = false;
-        for (FREQ freq : getFrequencies()) {
+        //Note: We tick a copy of the active frequencies so that ticking one frequency is able to cause another one to become active
+        toTick.addAll(activeFrequencies);
+        for (Frequency freq : toTick) {
             dirty |= freq.tick();
+            if (!freq.hasActiveMembers()) {
+                //Nothing is using the frequency anymore, so stop ticking it until it gets used or changed again
+                activeFrequencies.remove(freq);
+            }
         }
+        toTick.clear();
         if (dirty) {
             markDirty();
         }
@@ -174,7 +205,10 @@ public class FrequencyManager<FREQ extends Frequency> {
 
         public void syncManager() {
             if (loadedFrequencies != null) {
-                loadedFrequencies.forEach(freq -> frequencies.put(freq.getKey(), freq));
+                for (FREQ freq : loadedFrequencies) {
+                    frequencies.put(freq.getKey(), freq);
+                    freq.setManager(FrequencyManager.this);
+                }
                 ownerUUID = loadedOwner;
             }
         }
@@ -43,6 +43,22 @@ public class TileComponentFrequency implements ITileComponent {
         return !supportedFrequencies.isEmpty();
     }
 
+    /**
+     * @return {@code true} if ticking this component would currently not do anything.
+     */
+    public boolean isIdle() {
+        if (needsNotify || needsSave) {
+            return false;
+        }
+        for (FrequencyData frequencyData : supportedFrequencies.values()) {
+            Frequency selectedFrequency = frequencyData.selectedFrequency;
+            if (selectedFrequency != null && (!selectedFrequency.isValid() || selectedFrequency.isRemoved())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void tickServer() {
         for (Map.Entry<FrequencyType<?>, FrequencyData> entry : supportedFrequencies.entrySet()) {
             updateFrequency(entry.getKey(), entry.getValue());
@@ -1,6 +1,8 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
@@ -14,13 +16,30 @@ import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.NotNull;
 
 public abstract class CuboidStructureValidator<T extends MultiblockData> implements IStructureValidator<T> {
 
+    /**
+     * Lookup tables of {@link BlockState} to {@link CasingType} for each validator type. As the block states are fixed once registries are frozen, and all validators
+     * classify states purely based on the state itself, we can fill these in lazily and keep them for the lifetime of the game.
+     *
+     * @apiNote Only accessed from the server thread.
+     */
+    private static final ClassValue<Map<BlockState, CasingType>> CASING_TYPES = new ClassValue<>() {
+        @Override
+        protected Map<BlockState, CasingType> computeValue(@NotNull Class<?> type) {
+            return new Reference2ObjectOpenHashMap<>();
+        }
+    };
+
+    private final Map<BlockState, CasingType> casingTypes = CASING_TYPES.get(getClass());
     private final VoxelCuboid minBounds;
     private final VoxelCuboid maxBounds;
 
@@ -49,12 +68,30 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
+        if (world.isOutsideBuildHeight(min.getY()) || world.isOutsideBuildHeight(max.getY())) {
+            //If any position is out of bounds of the world, fail
+            return FormationResult.FAIL;
+        }
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        //Note: We read the states directly from the chunk sections, and only look up the chunk when we cross into a new one
+        ChunkAccess chunk = null;
+        int chunkX = 0, chunkZ = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int y = min.getY(); y <= max.getY(); y++) {
                 for (int z = min.getZ(); z <= max.getZ(); z++) {
                     mutablePos.set(x, y, z);
-                    FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
+                    if (chunk == null || SectionPos.blockToSectionCoord(x) != chunkX || SectionPos.blockToSectionCoord(z) != chunkZ) {
+                        chunk = WorldUtils.getChunkForPos(world, chunkMap, mutablePos);
+                        if (chunk == null) {
+                            //If the position is not in a loaded chunk, fail
+                            return FormationResult.FAIL;
+                        }
+                        chunkX = SectionPos.blockToSectionCoord(x);
+                        chunkZ = SectionPos.blockToSectionCoord(z);
+                    }
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    FormationResult ret = validateNode(ctx, chunkMap, mutablePos, state);
                     if (!ret.isFormed()) {
                         return ret;
                     }
@@ -73,10 +110,17 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             //If the position is not in a loaded chunk or out of bounds of the world, fail
             return FormationResult.FAIL;
         }
-        BlockState state = optionalState.get();
+        return validateNode(ctx, chunkMap, pos, optionalState.get());
+    }
+
+    /**
+     * @param pos   Mutable BlockPos
+     * @param state State at the position.
+     */
+    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos, BlockState state) {
         StructureRequirement requirement = getStructureRequirement(pos);
         if (requirement.isCasing()) {
-            CasingType type = getCasingType(state);
+            CasingType type = getCachedCasingType(state);
             FormationResult ret = validateFrame(ctx, pos, state, type, requirement.needsFrame());
             if ((requirement != StructureRequirement.IGNORED || ret.isNoIgnore()) && !ret.isFormed()) {
                 return ret;
@@ -84,8 +128,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
         } else if (!state.isAir()) {
-            //Make sure the position is immutable before we store it
-            ctx.internalLocations.add(pos.immutable());
+            ctx.internalLocations.add(pos);
         }
         return FormationResult.SUCCESS;
     }
@@ -97,8 +140,20 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return state.isAir();
     }
 
+    /**
+     * Classifies the given state. Implementations must only depend on the state itself, as the result is cached for all validators of the same type.
+     */
     protected abstract CasingType getCasingType(BlockState state);
 
+    protected final CasingType getCachedCasingType(BlockState state) {
+        CasingType type = casingTypes.get(state);
+        if (type == null) {
+            type = getCasingType(state);
+            casingTypes.put(state, type);
+        }
+        return type;
+    }
+
     protected boolean isFrameCompatible(BlockEntity tile) {
         if (tile instanceof IStructuralMultiblock multiblock && multiblock.canInterface(manager)) {
             return true;
@@ -129,10 +184,10 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
                 }
             }
         }
-        //Make sure the position is immutable before we store it
-        pos = pos.immutable();
         ctx.locations.add(pos);
         if (type.isValve()) {
+            //Make sure the position is immutable before we store it
+            pos = pos.immutable();
             ValveData data = new ValveData(pos, getSide(pos));
             ctx.valves.add(data);
         }
@@ -144,6 +199,57 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public boolean revalidate(T multiblock, BlockPos changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        cuboid = multiblock.getBounds();
+        if (cuboid == null || getStructureRequirement(changed) != StructureRequirement.INNER) {
+            //Only inner positions can be revalidated incrementally, as changes to the casing may change the shape of the structure
+            return false;
+        }
+        Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, changed);
+        if (optionalState.isEmpty() || !validateInner(optionalState.get(), chunkMap, changed)) {
+            //Let the full validation handle failing so that it can properly report why
+            return false;
+        }
+        boolean wasInternal = multiblock.internalLocations.contains(changed);
+        if (optionalState.get().isAir()) {
+            if (wasInternal) {
+                if (!revalidateRemoved(multiblock, changed)) {
+                    return false;
+                }
+                multiblock.internalLocations.remove(changed);
+                multiblock.markDirty();
+            }
+            //Otherwise, the position was already air, so nothing that the structure depends on actually changed
+            return true;
+        } else if (wasInternal || !revalidateAdded(multiblock, changed, chunkMap)) {
+            return false;
+        }
+        multiblock.internalLocations.add(changed);
+        multiblock.markDirty();
+        return true;
+    }
+
+    /**
+     * Called when an inner node was added to an already formed multiblock, after {@link #validateInner(BlockState, Long2ObjectMap, BlockPos)} succeeded for it. Update
+     * any state that {@link #postcheck(MultiblockData, Long2ObjectMap)} calculates here.
+     *
+     * @return {@code true} if the post check invariants still hold, {@code false} if the structure needs to be fully revalidated.
+     */
+    protected boolean revalidateAdded(T multiblock, BlockPos pos, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return false;
+    }
+
+    /**
+     * Called when an inner node was removed from an already formed multiblock. Update any state that {@link #postcheck(MultiblockData, Long2ObjectMap)} calculates
+     * here.
+     *
+     * @return {@code true} if the post check invariants still hold, {@code false} if the structure needs to be fully revalidated.
+     */
+    protected boolean revalidateRemoved(T multiblock, BlockPos pos) {
+        return false;
+    }
+
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
         if (relative.isOnEdge()) {
@@ -17,6 +17,7 @@ import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.collection.BlockPosSet;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
@@ -41,8 +42,8 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public BlockPosSet locations = new BlockPosSet();
+    public BlockPosSet internalLocations = new BlockPosSet();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Map<UUID, MultiblockCache<T>> idsFound = new HashMap<>();
 
@@ -57,6 +58,9 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
+        //Now that we know the bounds, bit pack any positions we find relative to them
+        locations = new BlockPosSet(structure.getBounds());
+        internalLocations = new BlockPosSet(structure.getBounds());
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         FormationResult result = validator.validate(this, chunkMap);
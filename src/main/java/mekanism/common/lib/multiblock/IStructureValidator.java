@@ -3,6 +3,7 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -16,5 +17,18 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Tries to revalidate an already formed multiblock after a single position inside of it changed, without rescanning the entire structure.
+     *
+     * @param multiblock Formed multiblock.
+     * @param changed    Position that changed.
+     * @param chunkMap   Chunk cache.
+     *
+     * @return {@code true} if the change was validated incrementally and the multiblock is still valid, {@code false} if the structure needs to be fully revalidated.
+     */
+    default boolean revalidate(T multiblock, BlockPos changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return false;
+    }
+
     IShape getShape();
 }
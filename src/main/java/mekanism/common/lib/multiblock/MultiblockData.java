@@ -37,6 +37,7 @@ import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.collection.BlockPosSet;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
@@ -60,7 +61,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
       IPigmentTracker, ISlurryTracker {
 
     protected static final Map<Direction, Set<Direction>> SIDE_REFERENCES = new EnumMap<>(Direction.class);
-    public Set<BlockPos> locations = new ObjectOpenHashSet<>();
+    /**
+     * Positions of all the casing blocks of this multiblock, bit packed relative to the bounds of the multiblock to avoid keeping a {@link BlockPos} alive for every
+     * casing block.
+     */
+    public BlockPosSet locations = new BlockPosSet();
     /**
      * @apiNote This set is only used for purposes of caching all known valid inner blocks of a multiblock structure, for use in checking if we need to revalidate the
      * multiblock when something changes, cases we want to skip are inner nodes just changing state (for example, super heating elements being activated) This set is not
@@ -68,7 +73,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
      * accurate of checks that get done against this as there is no way to tell if the state actually changed or if the block changed entirely, but assuming no one is
      * replacing the blocks inside a multiblock (which is unsupported) it will handle it fine, and we can easily special-case it becoming air as having been "broken"
      */
-    public Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public BlockPosSet internalLocations = new BlockPosSet();
     public Set<ValveData> valves = new ObjectOpenHashSet<>();
 
     @ContainerSync(getter = "getVolume", setter = "setVolume")
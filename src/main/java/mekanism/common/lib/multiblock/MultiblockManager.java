@@ -1,14 +1,21 @@
 package mekanism.common.lib.multiblock;
 
+import com.google.common.collect.Iterators;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.api.NBTConstants;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.MekanismSavedData;
+import net.minecraft.SharedConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -19,6 +26,10 @@ import org.jetbrains.annotations.Nullable;
 public class MultiblockManager<T extends MultiblockData> {
 
     private static final Set<MultiblockManager<?>> managers = new HashSet<>();
+    /**
+     * How far behind the saved time a multiblock was last owned at is allowed to get before we mark the manager as dirty so that it gets saved again.
+     */
+    static final long LAST_OWNED_SAVE_MARGIN = SharedConstants.TICKS_PER_GAME_DAY / 24;
 
     private final String name;
     private final String nameLower;
@@ -27,9 +38,23 @@ public class MultiblockManager<T extends MultiblockData> {
     private final Supplier<IStructureValidator<T>> validatorSupplier;
 
     /**
-     * A map containing references to all multiblock inventory caches.
+     * A map containing references to all multiblock inventory caches that have been decoded.
      */
     private final Map<UUID, MultiblockCache<T>> caches = new HashMap<>();
+    /**
+     * A map containing the saved data of all multiblock inventory caches that have not been needed since the manager was loaded. These get decoded the first time
+     * they are looked up, so that we don't have to decode the contents of multiblocks that are in chunks that never get loaded again.
+     */
+    private final Map<UUID, CompoundTag> encodedCaches = new HashMap<>();
+    /**
+     * Game time at which each cache was last used by a formed multiblock.
+     */
+    private final Object2LongMap<UUID> lastOwned = new Object2LongOpenHashMap<>();
+    /**
+     * Game time at which each cache was last used as of the last time the manager was marked as dirty, so that we can make sure the saved time doesn't get too far
+     * behind for multiblocks that stay loaded without changing.
+     */
+    private final Object2LongMap<UUID> savedLastOwned = new Object2LongOpenHashMap<>();
 
     /**
      * Note: This can and will be null on the client side
@@ -57,12 +82,23 @@ public class MultiblockManager<T extends MultiblockData> {
      */
     public void trackCache(UUID id, MultiblockCache<T> cache) {
         caches.put(id, cache);
+        encodedCaches.remove(id);
         markDirty();
     }
 
     @Nullable
     public MultiblockCache<T> getCache(UUID multiblockID) {
-        return caches.get(multiblockID);
+        MultiblockCache<T> cache = caches.get(multiblockID);
+        if (cache == null) {
+            CompoundTag encoded = encodedCaches.remove(multiblockID);
+            if (encoded != null) {
+                //First time the cache is needed since it was loaded, decode it
+                cache = cacheSupplier.get();
+                cache.load(encoded);
+                caches.put(multiblockID, cache);
+            }
+        }
+        return cache;
     }
 
     public IStructureValidator<T> createValidator() {
@@ -87,6 +123,9 @@ public class MultiblockManager<T extends MultiblockData> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.caches.clear();
+            manager.encodedCaches.clear();
+            manager.lastOwned.clear();
+            manager.savedLastOwned.clear();
             manager.dataHandler = null;
         }
     }
@@ -97,11 +136,15 @@ public class MultiblockManager<T extends MultiblockData> {
     public void replaceCaches(Set<UUID> staleIds, UUID id, MultiblockCache<T> cache) {
         for (UUID staleId : staleIds) {
             caches.remove(staleId);
+            encodedCaches.remove(staleId);
+            lastOwned.removeLong(staleId);
+            savedLastOwned.removeLong(staleId);
         }
         trackCache(id, cache);
     }
 
     public void handleDirtyMultiblock(T multiblock) {
+        markOwned(multiblock.inventoryID, multiblock.getWorld().getGameTime());
         //Validate the multiblock is actually dirty and needs saving
         if (multiblock.isDirty()) {
             MultiblockCache<T> cache = getCache(multiblock.inventoryID);
@@ -118,6 +161,23 @@ public class MultiblockManager<T extends MultiblockData> {
         }
     }
 
+    /**
+     * Keeps track of when the cache was last used so that caches of multiblocks that don't get loaded anymore can be removed.
+     *
+     * @return {@code true} if the saved time the cache was last used at was too far behind, and the manager was marked as dirty so that it gets saved again.
+     */
+    boolean markOwned(UUID id, long gameTime) {
+        lastOwned.put(id, gameTime);
+        if (!savedLastOwned.containsKey(id) || gameTime - savedLastOwned.getLong(id) > LAST_OWNED_SAVE_MARGIN) {
+            //Make sure the saved time doesn't get stale while the multiblock stays loaded, as otherwise after a restart
+            // we might remove the cache of a multiblock that is still in use
+            savedLastOwned.put(id, gameTime);
+            markDirty();
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Grabs a unique inventory ID for a multiblock.
      *
@@ -133,6 +193,47 @@ public class MultiblockManager<T extends MultiblockData> {
         }
     }
 
+    /**
+     * Removes the caches of all multiblocks that have not been loaded for longer than the configured expiry time.
+     *
+     * @param gameTime Current game time.
+     *
+     * @apiNote This should only be called from the server side
+     */
+    public static void removeExpiredCaches(long gameTime) {
+        int expiryDays = MekanismConfig.general.multiblockCacheExpiry.get();
+        if (expiryDays > 0) {
+            long expiry = expiryDays * (long) SharedConstants.TICKS_PER_GAME_DAY;
+            for (MultiblockManager<?> manager : managers) {
+                manager.removeExpiredCaches(gameTime, expiry);
+            }
+        }
+    }
+
+    /**
+     * @return Number of caches that were removed.
+     */
+    int removeExpiredCaches(long gameTime, long expiry) {
+        int removed = 0;
+        for (Iterator<UUID> iterator = Iterators.concat(caches.keySet().iterator(), encodedCaches.keySet().iterator()); iterator.hasNext(); ) {
+            UUID id = iterator.next();
+            if (!lastOwned.containsKey(id)) {
+                //Caches we have never seen being used (such as ones saved before we tracked usage) are treated as being used now
+                markOwned(id, gameTime);
+            } else if (gameTime - lastOwned.getLong(id) > expiry) {
+                iterator.remove();
+                lastOwned.removeLong(id);
+                savedLastOwned.removeLong(id);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            Mekanism.logger.info("Removed {} {} caches that have not been used for a long time.", removed, name);
+            markDirty();
+        }
+        return removed;
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -162,9 +263,13 @@ public class MultiblockManager<T extends MultiblockData> {
                     CompoundTag cacheTags = cachesNbt.getCompound(i);
                     if (cacheTags.hasUUID(NBTConstants.INVENTORY_ID)) {
                         UUID id = cacheTags.getUUID(NBTConstants.INVENTORY_ID);
-                        MultiblockCache<T> cachedData = cacheSupplier.get();
-                        cachedData.load(cacheTags);
-                        caches.put(id, cachedData);
+                        //Note: We only decode the cache when it is first needed
+                        encodedCaches.put(id, cacheTags);
+                        if (cacheTags.contains(NBTConstants.LAST_OWNED, Tag.TAG_LONG)) {
+                            long owned = cacheTags.getLong(NBTConstants.LAST_OWNED);
+                            lastOwned.put(id, owned);
+                            savedLastOwned.put(id, owned);
+                        }
                     }
                 }
             }
@@ -180,10 +285,28 @@ public class MultiblockManager<T extends MultiblockData> {
                 // as none of the caches save anything to this tag
                 cacheTags.putUUID(NBTConstants.INVENTORY_ID, entry.getKey());
                 entry.getValue().save(cacheTags);
+                saveLastOwned(entry.getKey(), cacheTags);
+                cachesNbt.add(cacheTags);
+            }
+            for (Map.Entry<UUID, CompoundTag> entry : encodedCaches.entrySet()) {
+                //Caches that were never decoded haven't changed, so we can write them back as is. We make a shallow copy so that we don't modify
+                // the loaded tag while it may still be being written
+                CompoundTag encoded = entry.getValue();
+                CompoundTag cacheTags = new CompoundTag();
+                for (String key : encoded.getAllKeys()) {
+                    cacheTags.put(key, encoded.get(key));
+                }
+                saveLastOwned(entry.getKey(), cacheTags);
                 cachesNbt.add(cacheTags);
             }
             nbt.put(NBTConstants.CACHE, cachesNbt);
             return nbt;
         }
+
+        private void saveLastOwned(UUID id, CompoundTag cacheTags) {
+            if (lastOwned.containsKey(id)) {
+                cacheTags.putLong(NBTConstants.LAST_OWNED, lastOwned.getLong(id));
+            }
+        }
     }
 }
\ No newline at end of file
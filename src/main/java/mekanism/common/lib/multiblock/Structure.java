@@ -103,6 +103,25 @@ public class Structure {
         }
     }
 
+    /**
+     * Tries to revalidate the formed multiblock of this structure after a single position inside of it changed, without rescanning the entire structure.
+     *
+     * @return {@code true} if the change was validated incrementally, {@code false} if the structure needs to be marked for a full update.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends MultiblockData> boolean tryRevalidate(Level world, BlockPos changed) {
+        if (!valid || multiblockData == null || !multiblockData.isFormed()) {
+            return false;
+        }
+        MultiblockManager<T> manager = (MultiblockManager<T>) getManager();
+        if (manager == null) {
+            return false;
+        }
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(world, manager, this);
+        return validator.revalidate((T) multiblockData, changed, new Long2ObjectOpenHashMap<>());
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> void doImmediateUpdate(TILE tile, boolean tryValidate) {
         //Pretend it got marked for update last tick so that when we call tick it will update
         updateTimestamp = tile.getLevel().getGameTime() - 1;
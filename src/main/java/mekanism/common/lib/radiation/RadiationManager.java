@@ -4,14 +4,17 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -62,6 +65,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingTickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -105,6 +109,10 @@ public class RadiationManager implements IRadiationManager {
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
     private static final Random RAND = new Random();
+    /**
+     * Distance in blocks that radiation zones can be apart from each other and still have the entities in them looked up together.
+     */
+    private static final double ZONE_MERGE_DISTANCE = 16;
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
@@ -118,6 +126,10 @@ public class RadiationManager implements IRadiationManager {
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, PreviousRadiationData> playerExposureMap = new Object2ObjectOpenHashMap<>();
 
+    private final Map<ResourceKey<Level>, List<RadiationZone>> pendingZones = new Object2ObjectOpenHashMap<>();
+    private final Set<ResourceKey<Level>> dirtyDimensions = new ObjectOpenHashSet<>();
+    private boolean allDimensionsDirty;
+
     // client fields
     private RadiationScale clientRadiationScale = RadiationScale.NONE;
     private double clientEnvironmentalRadiation = BASELINE;
@@ -236,7 +248,7 @@ public class RadiationManager implements IRadiationManager {
             src.radiate(magnitude);
         }
         markDirty();
-        //Update radiation levels immediately
+        //Update radiation levels at the end of the tick
         updateClientRadiationForAll(coord.dimension);
     }
 
@@ -250,6 +262,56 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    @Override
+    public void radiate(Level world, AABB zone, double magnitude) {
+        if (isRadiationEnabled() && !world.isClientSide()) {
+            pendingZones.computeIfAbsent(world.dimension(), dimension -> new ArrayList<>()).add(new RadiationZone(zone, magnitude));
+        }
+    }
+
+    /**
+     * Radiates all entities in the zones that were queued for the given world. Zones that are near each other are merged into a single entity lookup, so that multiple
+     * reactors next to each other only need to look up the entities around them once.
+     */
+    private void radiateZones(Level world) {
+        List<RadiationZone> zones = pendingZones.remove(world.dimension());
+        if (zones == null) {
+            return;
+        }
+        List<AABB> lookups = new ArrayList<>();
+        for (RadiationZone zone : zones) {
+            AABB merged = zone.zone();
+            //Merge any lookups that are near the zone, repeating until nothing else is close enough to the merged area
+            for (boolean changed = true; changed; ) {
+                changed = false;
+                AABB inflated = merged.inflate(ZONE_MERGE_DISTANCE);
+                for (Iterator<AABB> iterator = lookups.iterator(); iterator.hasNext(); ) {
+                    AABB lookup = iterator.next();
+                    if (inflated.intersects(lookup)) {
+                        merged = merged.minmax(lookup);
+                        iterator.remove();
+                        changed = true;
+                    }
+                }
+            }
+            lookups.add(merged);
+        }
+        for (AABB lookup : lookups) {
+            for (LivingEntity entity : world.getEntitiesOfClass(LivingEntity.class, lookup)) {
+                AABB boundingBox = entity.getBoundingBox();
+                double magnitude = 0;
+                for (RadiationZone zone : zones) {
+                    if (zone.zone().intersects(boundingBox)) {
+                        magnitude += zone.magnitude();
+                    }
+                }
+                if (magnitude > 0) {
+                    radiate(entity, magnitude);
+                }
+            }
+        }
+    }
+
     @Override
     public void dumpRadiation(Coord4D coord, IGasHandler gasHandler, boolean clearRadioactive) {
         for (int tank = 0, gasTanks = gasHandler.getTanks(); tank < gasTanks; tank++) {
@@ -291,7 +353,7 @@ public class RadiationManager implements IRadiationManager {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
             markDirty();
-            updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+            updateClientRadiationForAll();
         }
     }
 
@@ -311,8 +373,31 @@ public class RadiationManager implements IRadiationManager {
         return resistance;
     }
 
+    /**
+     * Marks the radiation levels of players in the given dimension as needing to be updated at the end of the tick.
+     */
     private void updateClientRadiationForAll(ResourceKey<Level> dimension) {
-        updateClientRadiationForAll(player -> player.level().dimension() == dimension);
+        if (!allDimensionsDirty) {
+            dirtyDimensions.add(dimension);
+        }
+    }
+
+    /**
+     * Marks the radiation levels of all players as needing to be updated at the end of the tick.
+     */
+    private void updateClientRadiationForAll() {
+        allDimensionsDirty = true;
+        dirtyDimensions.clear();
+    }
+
+    private void flushClientRadiation() {
+        if (allDimensionsDirty) {
+            allDimensionsDirty = false;
+            updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+        } else if (!dirtyDimensions.isEmpty()) {
+            updateClientRadiationForAll(player -> dirtyDimensions.contains(player.level().dimension()));
+            dirtyDimensions.clear();
+        }
     }
 
     private void updateClientRadiationForAll(Predicate<ServerPlayer> clearForPlayer) {
@@ -409,6 +494,8 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void tickServerWorld(Level world) {
+        //Note: We radiate any queued zones even if radiation has since been disabled so that they don't stick around
+        radiateZones(world);
         // terminate early if we're disabled
         if (!isRadiationEnabled()) {
             return;
@@ -428,12 +515,8 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void tickServer() {
-        // terminate early if we're disabled
-        if (!isRadiationEnabled()) {
-            return;
-        }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(20) == 0) {
+        if (isRadiationEnabled() && RAND.nextInt(20) == 0) {
             Collection<RadiationSource> sources = radiationTable.values();
             if (!sources.isEmpty()) {
                 // remove if source gets too low
@@ -441,9 +524,11 @@ public class RadiationManager implements IRadiationManager {
                 //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                 markDirty();
                 //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+                updateClientRadiationForAll();
             }
         }
+        //Send any radiation level changes that happened this tick to the clients in a single pass
+        flushClientRadiation();
     }
 
     /**
@@ -466,6 +551,9 @@ public class RadiationManager implements IRadiationManager {
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
+        pendingZones.clear();
+        dirtyDimensions.clear();
+        allDimensionsDirty = false;
         dataHandler = null;
         loaded = false;
     }
@@ -487,6 +575,9 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    private record RadiationZone(AABB zone, double magnitude) {
+    }
+
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
     }
 
@@ -101,7 +101,7 @@ public class SecurityFrequency extends Frequency {
     public void setOverridden(boolean override) {
         if (this.override != override) {
             this.override = override;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -112,7 +112,7 @@ public class SecurityFrequency extends Frequency {
     public void setSecurityMode(SecurityMode securityMode) {
         if (this.securityMode != securityMode) {
             this.securityMode = securityMode;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -131,7 +131,7 @@ public class SecurityFrequency extends Frequency {
     public void addTrusted(UUID uuid, String name) {
         if (!trusted.contains(uuid)) {
             addTrustedRaw(uuid, name);
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -146,7 +146,7 @@ public class SecurityFrequency extends Frequency {
         UUID uuid = null;
         if (index >= 0 && index < trusted.size()) {
             uuid = trusted.remove(index);
-            this.dirty = true;
+            markDirty();
         }
         if (index >= 0 && index < trustedCache.size()) {
             trustedCache.remove(index);
@@ -3,13 +3,17 @@ package mekanism.common.lib.transmitter;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.LongConsumer;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.lib.math.Range3D;
+import mekanism.common.network.PlayerChunkIndex;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraftforge.eventbus.api.Event;
 import org.jetbrains.annotations.NotNull;
@@ -21,6 +25,11 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     protected final LongSet chunks = new LongOpenHashSet();
     @Nullable
     protected Range3D packetRange;
+    @Nullable
+    private List<ServerPlayer> trackingPlayers;
+    @Nullable
+    private Range3D trackingRange;
+    private int trackingVersion;
     protected long capacity;
     protected boolean needsUpdate;
     private boolean forceScaleUpdate;
@@ -181,6 +190,24 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         return packetRange;
     }
 
+    /**
+     * Gets the players that are close enough to this network to need to receive updates about it. The result is cached until either the network's range changes or a
+     * player in the network's dimension moves into a different chunk.
+     */
+    public List<ServerPlayer> getTrackingPlayers(MinecraftServer server) {
+        Range3D range = getPacketRange();
+        if (range == null) {
+            return Collections.emptyList();
+        }
+        int version = PlayerChunkIndex.INSTANCE.getVersion(server, range.dimension());
+        if (trackingPlayers == null || trackingRange != range || trackingVersion != version) {
+            trackingPlayers = PlayerChunkIndex.INSTANCE.getPlayersInRange(server, range);
+            trackingRange = range;
+            trackingVersion = version;
+        }
+        return trackingPlayers;
+    }
+
     private Range3D genPacketRange() {
         if (isEmpty()) {
             deregister();
@@ -9,7 +9,6 @@ import mekanism.api.functions.TriConsumer;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.Version;
-import mekanism.common.lib.math.Range3D;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
@@ -19,7 +18,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.players.PlayerList;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -212,30 +210,12 @@ public abstract class BasePacketHandler {
     }
 
     public <MSG> void sendToReceivers(MSG message, DynamicBufferedNetwork<?, ?, ?, ?> network) {
-        //TODO: Figure out why we have a try catch and remove the need for it
-        try {
-            //TODO: Create a method in DynamicNetwork to get all players that are "tracking" the network
-            // Also evaluate moving various network packet things over to using this at that point
-            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-            if (server != null) {
-                Range3D range = network.getPacketRange();
-                PlayerList playerList = server.getPlayerList();
-                //Ignore height for partial Cubic chunks support as range comparison gets used ignoring player height normally anyway
-                int radius = playerList.getViewDistance() * 16;
-                for (ServerPlayer player : playerList.getPlayers()) {
-                    if (range.dimension() == player.level().dimension()) {
-                        BlockPos playerPosition = player.blockPosition();
-                        int playerX = playerPosition.getX();
-                        int playerZ = playerPosition.getZ();
-                        //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
-                        if (playerX + radius + 1.99999 > range.xMin() && range.xMax() + 0.99999 > playerX - radius &&
-                            playerZ + radius + 1.99999 > range.zMin() && range.zMax() + 0.99999 > playerZ - radius) {
-                            sendTo(message, player);
-                        }
-                    }
-                }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            //Note: The players tracking the network are cached by the network and only recalculated when players move between chunks
+            for (ServerPlayer player : network.getTrackingPlayers(server)) {
+                sendTo(message, player);
             }
-        } catch (Exception ignored) {
         }
     }
 }
\ No newline at end of file
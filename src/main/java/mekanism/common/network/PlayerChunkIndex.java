@@ -0,0 +1,140 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.common.lib.math.Range3D;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of which chunk each online player is in, grouped into regions of chunks per dimension, so that finding the players that are near something doesn't require
+ * checking every online player. The index is rebuilt lazily at most once per tick.
+ */
+public class PlayerChunkIndex {
+
+    public static final PlayerChunkIndex INSTANCE = new PlayerChunkIndex();
+
+    /**
+     * Regions are 8x8 chunks.
+     */
+    private static final int REGION_SHIFT = 3;
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<List<PlayerEntry>>> regions = new HashMap<>();
+    private final Map<UUID, PlayerEntry> lastEntries = new HashMap<>();
+    private final Object2IntMap<ResourceKey<Level>> versions = new Object2IntOpenHashMap<>();
+    private int nextVersion = 1;
+    @Nullable
+    private MinecraftServer server;
+    private int lastTick = -1;
+    private int viewDistance = -1;
+
+    private PlayerChunkIndex() {
+    }
+
+    /**
+     * Gets the version of the index for the given dimension. The version changes whenever a player enters or leaves the dimension, or moves into a different chunk
+     * within it, so anything that is cached based on the result of {@link #getPlayersInRange(MinecraftServer, Range3D)} is still valid as long as the version stays
+     * the same.
+     */
+    public int getVersion(MinecraftServer server, ResourceKey<Level> dimension) {
+        refresh(server);
+        return versions.getInt(dimension);
+    }
+
+    /**
+     * Gets all the players that are within view distance of the given range.
+     */
+    public List<ServerPlayer> getPlayersInRange(MinecraftServer server, Range3D range) {
+        refresh(server);
+        Long2ObjectMap<List<PlayerEntry>> dimensionRegions = regions.get(range.dimension());
+        if (dimensionRegions == null) {
+            return Collections.emptyList();
+        }
+        int minChunkX = (range.xMin() >> 4) - viewDistance;
+        int maxChunkX = (range.xMax() >> 4) + viewDistance;
+        int minChunkZ = (range.zMin() >> 4) - viewDistance;
+        int maxChunkZ = (range.zMax() >> 4) + viewDistance;
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int regionX = minChunkX >> REGION_SHIFT, maxRegionX = maxChunkX >> REGION_SHIFT; regionX <= maxRegionX; regionX++) {
+            for (int regionZ = minChunkZ >> REGION_SHIFT, maxRegionZ = maxChunkZ >> REGION_SHIFT; regionZ <= maxRegionZ; regionZ++) {
+                List<PlayerEntry> regionPlayers = dimensionRegions.get(ChunkPos.asLong(regionX, regionZ));
+                if (regionPlayers != null) {
+                    for (PlayerEntry entry : regionPlayers) {
+                        if (entry.chunkX() >= minChunkX && entry.chunkX() <= maxChunkX && entry.chunkZ() >= minChunkZ && entry.chunkZ() <= maxChunkZ) {
+                            players.add(entry.player());
+                        }
+                    }
+                }
+            }
+        }
+        return players;
+    }
+
+    private void refresh(MinecraftServer server) {
+        if (this.server == server && lastTick == server.getTickCount()) {
+            return;
+        }
+        if (this.server != server) {
+            reset();
+            this.server = server;
+        }
+        lastTick = server.getTickCount();
+        int viewDistance = server.getPlayerList().getViewDistance();
+        if (this.viewDistance != viewDistance) {
+            //If the view distance changed, all the ranges players can see have changed
+            this.viewDistance = viewDistance;
+            for (ResourceKey<Level> dimension : versions.keySet()) {
+                versions.put(dimension, nextVersion++);
+            }
+        }
+        regions.clear();
+        Map<UUID, PlayerEntry> previousEntries = new HashMap<>(lastEntries);
+        lastEntries.clear();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            ChunkPos chunkPos = player.chunkPosition();
+            PlayerEntry entry = new PlayerEntry(player, player.level().dimension(), chunkPos.x, chunkPos.z);
+            lastEntries.put(player.getUUID(), entry);
+            regions.computeIfAbsent(entry.dimension(), dimension -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(ChunkPos.asLong(entry.chunkX() >> REGION_SHIFT, entry.chunkZ() >> REGION_SHIFT), region -> new ArrayList<>())
+                  .add(entry);
+            PlayerEntry previous = previousEntries.remove(player.getUUID());
+            if (previous == null || previous.player() != player || previous.dimension() != entry.dimension()) {
+                //New player, or they changed dimensions (in which case the player object may also have changed)
+                versions.put(entry.dimension(), nextVersion++);
+                if (previous != null) {
+                    versions.put(previous.dimension(), nextVersion++);
+                }
+            } else if (previous.chunkX() != entry.chunkX() || previous.chunkZ() != entry.chunkZ()) {
+                versions.put(entry.dimension(), nextVersion++);
+            }
+        }
+        //Any players that are left logged out
+        for (PlayerEntry previous : previousEntries.values()) {
+            versions.put(previous.dimension(), nextVersion++);
+        }
+    }
+
+    public void reset() {
+        regions.clear();
+        lastEntries.clear();
+        versions.clear();
+        server = null;
+        lastTick = -1;
+        viewDistance = -1;
+    }
+
+    private record PlayerEntry(ServerPlayer player, ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+    }
+}
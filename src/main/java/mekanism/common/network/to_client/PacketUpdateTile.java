@@ -1,5 +1,7 @@
 package mekanism.common.network.to_client;
 
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
@@ -8,45 +10,108 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
 public class PacketUpdateTile implements IMekanismPacket {
 
-    private final CompoundTag updateTag;
-    private final BlockPos pos;
+    private final List<TileUpdate> updates;
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag());
-    }
-
-    private PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
-        this.pos = pos;
-        this.updateTag = updateTag;
+    /**
+     * @param updates Updates for tiles that are all in the same chunk.
+     */
+    public PacketUpdateTile(List<TileUpdate> updates) {
+        this.updates = updates;
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
         ClientLevel world = Minecraft.getInstance().level;
-        //Only handle the update packet if the block is currently loaded
-        if (WorldUtils.isBlockLoaded(world, pos)) {
-            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
-            if (tile == null) {
-                Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
-                      world.dimension().location());
-            } else {
-                tile.handleUpdatePacket(updateTag);
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Only handle the update packet if the block is currently loaded
+            if (WorldUtils.isBlockLoaded(world, pos)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                } else {
+                    tile.handleSyncedUpdate(update);
+                }
             }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(pos);
-        buffer.writeNbt(updateTag);
+        buffer.writeCollection(updates, (buf, update) -> {
+            buf.writeBlockPos(update.pos());
+            buf.writeNbt(update.updateTag());
+            buf.writeNullable(update.removedKeys(), (b, removed) -> b.writeCollection(removed, FriendlyByteBuf::writeUtf));
+        });
     }
 
     public static PacketUpdateTile decode(FriendlyByteBuf buffer) {
-        return new PacketUpdateTile(buffer.readBlockPos(), buffer.readNbt());
+        return new PacketUpdateTile(buffer.readList(buf -> new TileUpdate(buf.readBlockPos(), buf.readNbt(),
+              buf.readNullable(b -> b.readList(FriendlyByteBuf::readUtf)))));
+    }
+
+    /**
+     * @param updateTag   The full update tag, or if this is a delta, only the top level entries that were added or changed since the last update that was sent.
+     * @param removedKeys {@code null} if this is a full update, otherwise the top level keys that were removed since the last update that was sent.
+     */
+    public record TileUpdate(BlockPos pos, CompoundTag updateTag, @Nullable List<String> removedKeys) {
+
+        public static TileUpdate full(BlockPos pos, CompoundTag updateTag) {
+            return new TileUpdate(pos, updateTag, null);
+        }
+
+        public static TileUpdate delta(BlockPos pos, CompoundTag previous, CompoundTag current) {
+            CompoundTag changed = new CompoundTag();
+            for (String key : current.getAllKeys()) {
+                Tag value = current.get(key);
+                if (value != null && !value.equals(previous.get(key))) {
+                    changed.put(key, value);
+                }
+            }
+            List<String> removed = new ArrayList<>();
+            for (String key : previous.getAllKeys()) {
+                if (!current.contains(key)) {
+                    removed.add(key);
+                }
+            }
+            return new TileUpdate(pos, changed, removed);
+        }
+
+        /**
+         * @return {@code true} if this is a delta that doesn't contain any changes.
+         */
+        public boolean isEmpty() {
+            return removedKeys != null && removedKeys.isEmpty() && updateTag.isEmpty();
+        }
+
+        /**
+         * Gets the full update tag that this update represents.
+         *
+         * @param baseline The last full update tag that was received, or {@code null} if there isn't one.
+         */
+        public CompoundTag apply(@Nullable CompoundTag baseline) {
+            if (removedKeys == null || baseline == null) {
+                return updateTag;
+            }
+            //Note: We only need a shallow copy as the nested tags never get modified
+            CompoundTag merged = new CompoundTag();
+            for (String key : baseline.getAllKeys()) {
+                if (!removedKeys.contains(key)) {
+                    merged.put(key, baseline.get(key));
+                }
+            }
+            for (String key : updateTag.getAllKeys()) {
+                merged.put(key, updateTag.get(key));
+            }
+            return merged;
+        }
     }
-}
\ No newline at end of file
+}
@@ -82,6 +82,26 @@ public interface IRecipeLookupHandler<RECIPE extends MekanismRecipe> extends ICo
     default void clearRecipeErrors(int cacheIndex) {
     }
 
+    /**
+     * Checks if this handler will unblock its cached recipes whenever any of the inputs, outputs, energy or upgrades that affect the recipe change. If it does then it is
+     * safe to skip processing cached recipes while they are {@link CachedRecipe#isBlocked() blocked}.
+     *
+     * @return {@code true} if blocked cached recipes can be skipped until they are unblocked.
+     */
+    default boolean canSleepWhenBlocked() {
+        return false;
+    }
+
+    /**
+     * Gets how many ticks have passed since this handler last processed its cached recipes. This is greater than one when the handler is part of a tick group that only
+     * gets ticked every few ticks.
+     *
+     * @return Number of ticks that the cached recipes should be processed for.
+     */
+    default int getElapsedTicks() {
+        return 1;
+    }
+
     /**
      * Helper class that specifies the input cache's type for the recipe type. The reason it isn't defined in the main {@link IRecipeLookupHandler} is it isn't needed and
      * would just make the class definitions a lot messier with very long generics that can be folded away into the helper interfaces we use anyway ofr actual lookup
@@ -3,6 +3,7 @@ package mekanism.common.recipe.lookup.monitor;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.recipes.NucleosynthesizingRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 
@@ -22,13 +23,21 @@ public class NucleosynthesizerRecipeCacheLookupMonitor extends RecipeCacheLookup
         if (updateAndProcess()) {
             //TODO: Re-evaluate this at some point
             int toProcess = (int) Math.sqrt(prev.divide(machineEnergyContainer.getEnergyPerTick()).doubleValue());
-            for (int i = 0; i < toProcess - 1; i++) {
-                cachedRecipe.process();
-            }
+            processExtraOperations(cachedRecipe, toProcess - 1, getElapsedTicks());
             //Update amount of energy that actually got used, as if we are "near" full we may not have performed our max number of operations
-            return prev.minusEqual(energyContainer.getEnergy());
+            return perTick(prev.minusEqual(energyContainer.getEnergy()));
         }
         //If we don't have a cached recipe so didn't process anything at all just return zero
         return FloatingLong.ZERO;
     }
-}
\ No newline at end of file
+
+    /**
+     * Processes the cached recipe the given number of extra times. Each extra operation processes for all the ticks that elapsed since the machine last ran, so that the
+     * boost from having excess energy stays the same when the machine only gets ticked every few ticks.
+     */
+    static void processExtraOperations(CachedRecipe<?> cachedRecipe, int extraOperations, int elapsedTicks) {
+        for (int i = 0; i < extraOperations; i++) {
+            cachedRecipe.process(elapsedTicks);
+        }
+    }
+}
@@ -41,6 +41,16 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     public void onChange() {
         //Mark that we may have a recipe again
         hasNoRecipe = false;
+        unblock();
+    }
+
+    /**
+     * Marks that something affecting our cached recipe may have changed, so it should be processed again even if it was blocked.
+     */
+    public void unblock() {
+        if (cachedRecipe != null) {
+            cachedRecipe.unblock();
+        }
     }
 
     /**
@@ -52,25 +62,44 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         FloatingLong prev = energyContainer.getEnergy().copy();
         if (updateAndProcess()) {
             //Update amount of energy that actually got used, as if we are "near" full we may not have performed our max number of operations
-            return prev.minusEqual(energyContainer.getEnergy());
+            return perTick(prev.minusEqual(energyContainer.getEnergy()));
         }
         //If we don't have a cached recipe so didn't process anything at all just return zero
         return FloatingLong.ZERO;
     }
 
     public boolean updateAndProcess() {
+        if (cachedRecipe != null && handler.canSleepWhenBlocked() && cachedRecipe.isBlocked() && !invalidateCache()) {
+            //If our recipe is blocked and nothing has changed since it became blocked, skip rechecking it as it still won't be able to process
+            return false;
+        }
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
             handler.onCachedRecipeChanged(cachedRecipe, cacheIndex);
         }
         if (cachedRecipe != null) {
-            cachedRecipe.process();
+            cachedRecipe.process(getElapsedTicks());
             return true;
         }
         return false;
     }
 
+    /**
+     * @return Number of ticks that have passed since the handler last processed.
+     */
+    protected int getElapsedTicks() {
+        return handler.getElapsedTicks();
+    }
+
+    /**
+     * Converts the energy used since the handler last processed to the average amount used per tick.
+     */
+    protected FloatingLong perTick(FloatingLong energyUsed) {
+        int elapsedTicks = getElapsedTicks();
+        return elapsedTicks > 1 ? energyUsed.divide(elapsedTicks) : energyUsed;
+    }
+
     @Override
     public void loadSavedData(@NotNull CachedRecipe<RECIPE> cached, int cacheIndex) {
         if (cachedIndexMatches(cacheIndex)) {
@@ -108,6 +108,11 @@ public class TileEntityBin extends TileEntityMekanism implements IConfigurable {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return !getActive() && delayTicks == 0 && addTicks == 0 && removeTicks == 0;
+    }
+
     @Override
     public InteractionResult onSneakRightClick(Player player) {
         setActive(!getActive());
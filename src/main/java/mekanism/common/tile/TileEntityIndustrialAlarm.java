@@ -23,6 +23,12 @@ public class TileEntityIndustrialAlarm extends TileEntityMekanism {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        //The alarm only reacts to redstone changes, which wake it back up
+        return true;
+    }
+
     @NotNull
     @Override
     public AABB getRenderBoundingBox() {
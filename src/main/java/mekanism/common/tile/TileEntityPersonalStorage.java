@@ -67,6 +67,11 @@ public abstract class TileEntityPersonalStorage extends TileEntityMekanism {
         return builder.build();
     }
 
+    @Override
+    protected boolean canSleep() {
+        return true;
+    }
+
     @Override
     public void open(Player player) {
         super.open(player);
@@ -108,10 +108,11 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
         }
 
         ejectorComponent = new TileComponentEjector(this);
-        //Note: All eject types except for items is handled by the frequency
+        //Note: All eject types except for items are handled directly by the frequency, and items are ejected when the frequency tells us to
         //Only allow trying to eject if we have a frequency, because otherwise all our containers and sides will just be empty anyway
         // also require that we can function before auto ejecting
-        ejectorComponent.setOutputData(configComponent, TransmissionType.ITEM).setCanEject(type -> hasFrequency() && MekanismUtils.canFunction(this));
+        ejectorComponent.setOutputData(configComponent, TransmissionType.ITEM).setCanEject(type -> hasFrequency() && MekanismUtils.canFunction(this))
+              .setManualItemEjection();
 
         chunkLoaderComponent = new TileComponentChunkLoader<>(this);
         frequencyComponent.track(FrequencyType.INVENTORY, true, true, true);
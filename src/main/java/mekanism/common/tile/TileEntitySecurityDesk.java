@@ -61,6 +61,11 @@ public class TileEntitySecurityDesk extends TileEntityMekanism implements IBound
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return unlockSlot.isEmpty() && lockSlot.isEmpty();
+    }
+
     /**
      * Only call on the server side
      */
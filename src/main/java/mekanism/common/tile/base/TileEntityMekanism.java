@@ -1,9 +1,11 @@
 package mekanism.common.tile.base;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -250,6 +252,25 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected IntSupplier delaySupplier = MekanismConfig.general.blockDeactivationDelay;
     //End variables ITileActive
 
+    //Variables for handling sleeping
+    /**
+     * Whether this tile currently has nothing to do and is skipping its server ticks until something wakes it up.
+     */
+    private boolean sleeping;
+    //End variables for sleeping
+
+    //Variables for handling tick groups
+    /**
+     * Offset used to spread out which tick tiles of the same type get ticked on when they are part of a tick group.
+     */
+    private final int tickGroupPhase;
+    @Nullable
+    private Map<ResourceLocation, Integer> cachedTickGroupDividers;
+    private int tickGroupDivider = 1;
+    private long lastTickTime = -1;
+    private int elapsedTicks = 1;
+    //End variables for tick groups
+
     //Variables for handling ITileSound
     @Nullable
     protected final SoundEvent soundEvent;
@@ -264,6 +285,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public TileEntityMekanism(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(((IHasTileEntity<? extends BlockEntity>) blockProvider.getBlock()).getTileType(), pos, state);
         this.blockProvider = blockProvider;
+        tickGroupPhase = Long.hashCode(HashCommon.mix(pos.asLong()));
         Block block = this.blockProvider.getBlock();
         setSupportedTypes(block);
         presetVariables();
@@ -476,6 +498,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return nameable;
     }
 
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Something about us changed, make sure we are ticking again in case we now have something to do
+        wakeUp();
+    }
+
     @Override
     public void markDirtyComparator() {
         //Only mark our comparators as needing update if we support comparators
@@ -546,6 +575,21 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        if (tile.sleeping) {
+            //Nothing has changed since we last determined we had nothing to do, skip ticking
+            return;
+        }
+        if (tile.supportsTickGroups()) {
+            long time = level.getGameTime();
+            int divider = tile.getTickGroupDivider();
+            if (divider > 1 && Math.floorMod(time + tile.tickGroupPhase, divider) != 0) {
+                //It isn't our turn to tick in our tick group
+                return;
+            }
+            //Note: We cap the elapsed ticks at the divider so that we don't try to catch up on time we weren't being ticked at all, such as while sleeping
+            tile.elapsedTicks = tile.lastTickTime == -1 ? 1 : (int) Math.min(Math.max(time - tile.lastTickTime, 1), divider);
+            tile.lastTickTime = time;
+        }
         tile.frequencyComponent.tickServer();
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -564,7 +608,6 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         tile.onUpdateServer();
         tile.updateRadiationScale();
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.persists(SubstanceType.HEAT)) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -586,10 +629,72 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (tile.supportsRedstone()) {
             tile.redstoneLastTick = tile.redstone;
         }
+        if (tile.canSleep() && tile.componentsIdle()) {
+            tile.sleeping = true;
+        }
+    }
+
+    /**
+     * Checks if this tile has nothing left to do in {@link #onUpdateServer()} until something about its contents or surroundings changes. If this returns {@code true},
+     * and none of the tile's components have anything to do, the tile will stop ticking until {@link #wakeUp()} is called. This happens automatically when the tile is
+     * marked as changed (which all contents listeners do), when a neighbor or the redstone signal changes, when upgrades change, or when a player opens the tile.
+     *
+     * @implNote Defaults to {@code false}, tiles that only react to those kinds of changes should override this.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Checks if this tile can be part of a tick group, and only get ticked every few ticks as configured by {@link MekanismConfig#general}. Tiles that support this must
+     * factor {@link #getElapsedTicks()} into any processing they do, so that the amount they process per second is unaffected.
+     *
+     * @implNote Defaults to {@code false}.
+     */
+    protected boolean supportsTickGroups() {
+        return false;
+    }
+
+    private int getTickGroupDivider() {
+        Map<ResourceLocation, Integer> dividers = MekanismConfig.general.tickGroupDividers.get();
+        if (dividers != cachedTickGroupDividers) {
+            //Only look up our divider again when the config changes
+            cachedTickGroupDividers = dividers;
+            tickGroupDivider = dividers.isEmpty() ? 1 : dividers.getOrDefault(RegistryUtils.getName(getBlockType()), 1);
+        }
+        return tickGroupDivider;
+    }
+
+    /**
+     * @return The number of ticks that have passed since this tile was last ticked on the server. This is only ever greater than one for tiles that are part of a tick
+     * group.
+     */
+    public int getElapsedTicks() {
+        return elapsedTicks;
+    }
+
+    private boolean componentsIdle() {
+        return !hasChunkloader && updateDelay == 0 && !updateComparators && !persists(SubstanceType.HEAT) && frequencyComponent.isIdle() &&
+               (!supportsUpgrades() || upgradeComponent.isIdle());
+    }
+
+    /**
+     * @return {@code true} if this tile is currently sleeping and not ticking on the server.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Wakes this tile up, so that it resumes ticking on the server until it next determines it is able to sleep.
+     */
+    public void wakeUp() {
+        sleeping = false;
     }
 
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -808,6 +913,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wakeUp();
             updatePower();
         }
     }
@@ -959,6 +1065,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void recalculateUpgrades(Upgrade upgrade) {
+        wakeUp();
         if (upgrade == Upgrade.SPEED) {
             for (IEnergyContainer energyContainer : getEnergyContainers(null)) {
                 if (energyContainer instanceof MachineEnergyContainer<?> machineEnergy) {
@@ -1204,6 +1311,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public void setActive(boolean active) {
         if (isActivatable() && active != currentActive) {
+            wakeUp();
             BlockState state = getBlockState();
             AttributeStateActive activeAttribute = Attribute.get(state, AttributeStateActive.class);
             if (activeAttribute != null) {
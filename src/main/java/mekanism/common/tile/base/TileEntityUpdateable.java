@@ -4,7 +4,7 @@ import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.common.Mekanism;
-import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -30,6 +30,17 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private Coord4D cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    /**
+     * Whether this tile currently has an update packet queued in the {@link TileUpdateQueue}.
+     */
+    boolean updateQueued;
+    /**
+     * On the server this is the last update tag that was sent by the {@link TileUpdateQueue}, and on the client it is the last update tag that was received. Updates
+     * sent by the queue only contain the changes compared to this tag. On the server this gets cleared whenever a full update tag is sent by other means, as the players
+     * it was sent to no longer have the same baseline.
+     */
+    @Nullable
+    CompoundTag syncedUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -110,11 +121,31 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         //We don't want to do a full read from NBT so simply call the super's read method to let Forge do whatever
         // it wants, but don't treat this as if it was the full saved NBT data as not everything has to be synced to the client
         super.load(tag);
+        if (level != null && level.isClientSide()) {
+            //Keep track of the last full update tag we received so that we can apply any updates that only contain the changes to it
+            syncedUpdateTag = getSyncBaseline(tag);
+        }
+    }
+
+    /**
+     * Gets the data from a full update tag that later updates that only contain the changes get applied to.
+     *
+     * @implNote Override this to remove any data that {@link #getUpdateTag()} adds that isn't also part of {@link #getReducedUpdateTag()}, so that it doesn't get
+     * reapplied with every update.
+     */
+    @NotNull
+    protected CompoundTag getSyncBaseline(@NotNull CompoundTag tag) {
+        return tag;
     }
 
     @NotNull
     @Override
     public CompoundTag getUpdateTag() {
+        if (level != null && !level.isClientSide()) {
+            //This gets sent to any player that starts tracking the tile, and for block updates, so the players don't all share the baseline of the
+            // last update the queue sent anymore. Force the next update to be a full update so that nothing stays stale for them
+            syncedUpdateTag = null;
+        }
         return getReducedUpdateTag();
     }
 
@@ -142,20 +173,23 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag);
     }
 
-    public void sendUpdatePacket() {
-        sendUpdatePacket(this);
+    /**
+     * Handles an update that may only contain the changes since the last update that was received.
+     */
+    public void handleSyncedUpdate(@NotNull TileUpdate update) {
+        handleUpdatePacket(update.apply(syncedUpdateTag));
     }
 
-    public void sendUpdatePacket(BlockEntity tracking) {
+    /**
+     * Queues an update packet to be sent for this tile at the end of the tick. Multiple calls in the same tick only result in the tile being encoded and sent once.
+     */
+    public void sendUpdatePacket() {
         if (isRemote()) {
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
         } else {
-            //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
-            // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(this), tracking);
+            TileUpdateQueue.queue(this);
         }
     }
 
@@ -0,0 +1,102 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.Mekanism;
+import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Collects the tiles that requested an update packet be sent during a tick, so that each tile only gets encoded and sent once per tick, and all the updates for tiles
+ * in the same chunk get sent together.
+ */
+public final class TileUpdateQueue {
+
+    private static final Map<Level, Long2ObjectMap<List<TileEntityUpdateable>>> QUEUED = new HashMap<>();
+
+    private TileUpdateQueue() {
+    }
+
+    /**
+     * Queues the tile to have an update packet sent at the end of the tick, unless it already has an update queued.
+     */
+    static void queue(TileEntityUpdateable tile) {
+        if (!tile.updateQueued) {
+            tile.updateQueued = true;
+            QUEUED.computeIfAbsent(tile.getLevel(), level -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(ChunkPos.asLong(tile.getBlockPos()), chunk -> new ArrayList<>())
+                  .add(tile);
+        }
+    }
+
+    /**
+     * Sends all the queued updates.
+     *
+     * @apiNote Only call this on the server thread.
+     */
+    public static void flush() {
+        if (QUEUED.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Level, Long2ObjectMap<List<TileEntityUpdateable>>> entry : QUEUED.entrySet()) {
+            Level level = entry.getKey();
+            for (Long2ObjectMap.Entry<List<TileEntityUpdateable>> chunkEntry : entry.getValue().long2ObjectEntrySet()) {
+                List<TileEntityUpdateable> tiles = chunkEntry.getValue();
+                List<TileUpdate> updates = new ArrayList<>(tiles.size());
+                for (TileEntityUpdateable tile : tiles) {
+                    tile.updateQueued = false;
+                    //Skip any tiles that were removed or replaced after they queued their update
+                    if (!tile.isRemoved() && tile.getLevel() == level) {
+                        TileUpdate update = createUpdate(tile);
+                        if (!update.isEmpty()) {
+                            updates.add(update);
+                        }
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(updates), level, updates.get(0).pos());
+                }
+            }
+        }
+        QUEUED.clear();
+    }
+
+    /**
+     * Creates the update to send for a tile. Only what changed since the last update the queue sent gets sent, unless a full update tag was sent since then by other
+     * means, for example to a player that started tracking the tile. In that case the players tracking the tile may not all have the same baseline, so a value that
+     * changed back to what it was in the last queued update could otherwise never reach the players that got the full update tag in between.
+     *
+     * @apiNote This updates the tile's baseline, so the returned update has to be sent.
+     */
+    static TileUpdate createUpdate(TileEntityUpdateable tile) {
+        CompoundTag updateTag = tile.getReducedUpdateTag();
+        CompoundTag synced = tile.syncedUpdateTag;
+        tile.syncedUpdateTag = updateTag;
+        return synced == null ? TileUpdate.full(tile.getBlockPos(), updateTag) : TileUpdate.delta(tile.getBlockPos(), synced, updateTag);
+    }
+
+    /**
+     * Drops any queued updates for the given level, for use when the level unloads.
+     */
+    public static void clear(Level level) {
+        Long2ObjectMap<List<TileEntityUpdateable>> queued = QUEUED.remove(level);
+        if (queued != null) {
+            for (List<TileEntityUpdateable> tiles : queued.values()) {
+                for (TileEntityUpdateable tile : tiles) {
+                    tile.updateQueued = false;
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        QUEUED.clear();
+    }
+}
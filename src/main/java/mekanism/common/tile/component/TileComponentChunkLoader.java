@@ -13,9 +13,12 @@ import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.chunkloading.ChunkLoadingManager;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.tile.base.TileEntityMekanism;
+import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -43,6 +46,10 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
     @Nullable
     private BlockPos prevPos;
     private boolean hasRegistered;
+    /**
+     * Whether the last attempt to register our tickets was denied because it would have gone over the chunk loading limits.
+     */
+    private boolean overBudget;
 
     public TileComponentChunkLoader(T tile) {
         this(tile, false);
@@ -54,6 +61,13 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         this.forceTicks = forceTicks;
     }
 
+    /**
+     * @return The chunks this loader currently has forced.
+     */
+    public LongSet getForcedChunks() {
+        return LongSets.unmodifiable(chunkSet);
+    }
+
     public boolean canOperate() {
         return MekanismConfig.general.allowChunkloading.get() && tile.supportsUpgrades() && tile.getComponent().isUpgradeInstalled(Upgrade.ANCHOR);
     }
@@ -68,15 +82,26 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
             chunkSet.clear();
             markDirty();
         }
+        ChunkLoadingManager.INSTANCE.update(GlobalPos.of(world.dimension(), pos), tile.getOwnerUUID(), 0);
         hasRegistered = false;
         prevWorld = null;
     }
 
     private void registerChunkTickets(@NotNull ServerLevel world) {
-        prevPos = tile.getBlockPos();
-        prevWorld = world;
+        BlockPos pos = tile.getBlockPos();
         Set<ChunkPos> chunks = tile.getChunkSet();
         int tickets = chunks.size();
+        if (!ChunkLoadingManager.INSTANCE.canLoad(GlobalPos.of(world.dimension(), pos), tile.getOwnerUUID(), tickets)) {
+            if (!overBudget) {
+                overBudget = true;
+                LOGGER.info("Not adding {} chunk tickets as it would go over the chunk loading limits. Pos: {} World: {}", tickets, pos,
+                      world.dimension().location());
+            }
+            return;
+        }
+        overBudget = false;
+        prevPos = pos;
+        prevWorld = world;
         LOGGER.debug("Attempting to add {} chunk tickets. Pos: {} World: {}", tickets, prevPos, world.dimension().location());
         if (tickets > 0) {
             for (ChunkPos chunkPos : chunks) {
@@ -85,9 +110,14 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
             }
             markDirty();
         }
+        updateTracking(world, prevPos);
         hasRegistered = true;
     }
 
+    private void updateTracking(ServerLevel world, BlockPos pos) {
+        ChunkLoadingManager.INSTANCE.update(GlobalPos.of(world.dimension(), pos), tile.getOwnerUUID(), chunkSet.size());
+    }
+
     /**
      * Release and re-register tickets, call when chunk set changes
      */
@@ -132,6 +162,13 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                         //Probably never the case, but if we have no chunks that should be loaded anymore;
                         // just release them all normally
                         releaseChunkTickets(world, pos);
+                    } else if (!ChunkLoadingManager.INSTANCE.canLoad(GlobalPos.of(world.dimension(), pos), tile.getOwnerUUID(), chunks.size())) {
+                        //If the new chunks would go over the chunk loading limits, release the ones we have. We will try to register them again later
+                        // in case some chunks get freed up
+                        LOGGER.info("Removing {} chunk tickets as the changed chunks would go over the chunk loading limits. Pos: {} World: {}", chunkSet.size(),
+                              pos, world.dimension().location());
+                        releaseChunkTickets(world, pos);
+                        overBudget = true;
                     } else {
                         //Otherwise, we need to do calculate the differences to properly adjust which chunks are loaded and which ones are not
                         int removed = 0;
@@ -159,14 +196,16 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                         }
                         if (removed != 0 || added != 0) {
                             markDirty();
+                            updateTracking(world, pos);
                         }
                         LOGGER.debug("Removed {} no longer valid chunk tickets, and added {} newly valid chunk tickets. Pos: {} World: {}", removed, added, pos,
                               world.dimension().location());
                     }
                 }
             }
-        } else if (canOperate) {
+        } else if (canOperate && (!overBudget || world.getGameTime() % SharedConstants.TICKS_PER_SECOND == 0)) {
             //We haven't registered yet, but we can operate - add all of our tickets
+            // if we were previously over the chunk loading limits, only try again once a second
             registerChunkTickets(world);
         }
     }
@@ -273,12 +312,19 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                         //Next we validate that all the chunks are still properly contained and the chunks we want to load
                         // didn't change (such as from the max radius of the digital miner becoming lower)
                         LongSet chunks = chunkLoader.getTileChunks();
+                        GlobalPos globalPos = GlobalPos.of(world.dimension(), pos);
                         if (chunks.isEmpty()) {
                             //Probably never the case, but if we have no chunks that should be loaded anymore;
                             // just release them all
                             LOGGER.warn("Removing {} chunk tickets as they are no longer valid as this loader does not expect to have any tickets even "
                                         + "though it is can operate. Pos: {} World: {}", ticketCount, pos, worldName);
-                            releaseAllTickets(chunkLoader, pos, ticketHelper);
+                            releaseAllTickets(world, chunkLoader, pos, ticketHelper);
+                        } else if (!ChunkLoadingManager.INSTANCE.canLoad(globalPos, chunkLoader.tile.getOwnerUUID(), chunks.size())) {
+                            //Note: Info level as this is expected when the chunk loading limits were lowered
+                            LOGGER.info("Removing {} chunk tickets as they would go over the chunk loading limits. Pos: {} World: {}", ticketCount, pos,
+                                  worldName);
+                            releaseAllTickets(world, chunkLoader, pos, ticketHelper);
+                            chunkLoader.overBudget = true;
                         } else {
                             //Calculate the differences to properly adjust which chunks are loaded and which ones are not
                             int removed = 0;
@@ -311,6 +357,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             chunkLoader.hasRegistered = true;
                             chunkLoader.prevWorld = world;
                             chunkLoader.prevPos = pos;
+                            ChunkLoadingManager.INSTANCE.update(globalPos, chunkLoader.tile.getOwnerUUID(), chunkLoader.chunkSet.size());
                             if (removed == 0 && added == 0) {
                                 LOGGER.debug("Tickets for position: {} in {}, successfully validated.", pos, worldName);
                             } else {
@@ -326,7 +373,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                         // Note: Info level as this may be intended/expected when if the chunk loading config changed
                         LOGGER.info("Removing {} chunk tickets as they are no longer valid as this loader cannot operate. Pos: {} World: {}", ticketCount,
                               pos, worldName);
-                        releaseAllTickets(chunkLoader, pos, ticketHelper);
+                        releaseAllTickets(world, chunkLoader, pos, ticketHelper);
                     }
                 } else {
                     //Not a valid chunk/tile, remove all positions
@@ -336,9 +383,10 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
             }
         }
 
-        private void releaseAllTickets(TileComponentChunkLoader<?> chunkLoader, BlockPos pos, TicketHelper ticketHelper) {
+        private void releaseAllTickets(ServerLevel world, TileComponentChunkLoader<?> chunkLoader, BlockPos pos, TicketHelper ticketHelper) {
             //Release any tickets we have assigned to us that we loaded with
             ticketHelper.removeAllTickets(pos);
+            ChunkLoadingManager.INSTANCE.update(GlobalPos.of(world.dimension(), pos), null, 0);
             // and also clear any of the tickets the chunk loader thinks it has
             // making sure to mark it as not registered and having no previous world
             // even though those values are likely already at the proper values
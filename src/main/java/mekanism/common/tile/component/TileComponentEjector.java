@@ -64,6 +64,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     @Nullable//TODO: At some point it would be nice to be able to generify this further
     private Predicate<IChemicalTank<?, ?>> canTankEject;
     private boolean strictInput;
+    private boolean manualItemEjection;
     private EnumColor outputColor;
     private int tickDelay = 0;
 
@@ -111,6 +112,15 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return this;
     }
 
+    /**
+     * Marks that items should only be ejected when {@link #ejectItems()} is called instead of every time this component ticks, for when the ejection of multiple
+     * tiles that share an inventory is coordinated elsewhere.
+     */
+    public TileComponentEjector setManualItemEjection() {
+        this.manualItemEjection = true;
+        return this;
+    }
+
     public boolean isEjecting(ConfigInfo info, TransmissionType type) {
         return info.isEjecting() && (canEject == null || canEject.test(type));
     }
@@ -121,10 +131,12 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = entry.getValue();
             if (isEjecting(info, type)) {
                 if (type == TransmissionType.ITEM) {
-                    if (tickDelay == 0) {
-                        outputItems(info);
-                    } else {
-                        tickDelay--;
+                    if (!manualItemEjection) {
+                        if (tickDelay == 0) {
+                            outputItems(info);
+                        } else {
+                            tickDelay--;
+                        }
                     }
                 } else if (type != TransmissionType.HEAT) {
                     eject(type, info);
@@ -186,6 +198,16 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * Ejects items now, ignoring the delay between item ejections.
+     */
+    public void ejectItems() {
+        ConfigInfo info = configInfo.get(TransmissionType.ITEM);
+        if (info != null && isEjecting(info, TransmissionType.ITEM)) {
+            outputItems(info);
+        }
+    }
+
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
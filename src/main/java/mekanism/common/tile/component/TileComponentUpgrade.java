@@ -60,6 +60,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         this.tile.addComponent(this);
     }
 
+    /**
+     * @return {@code true} if ticking this component would currently not do anything.
+     */
+    public boolean isIdle() {
+        return upgradeTicks == 0 && upgradeSlot.isEmpty();
+    }
+
     public void tickServer() {
         ItemStack stack = upgradeSlot.getStack();
         if (!stack.isEmpty() && stack.getItem() instanceof IUpgradeItem upgradeItem) {
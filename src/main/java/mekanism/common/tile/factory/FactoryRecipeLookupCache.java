@@ -0,0 +1,101 @@
+package mekanism.common.tile.factory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tick scoped cache of recipe lookups that is shared between all processes of all factories. This allows us to only resolve each unique input once per tick, even
+ * when sorting has filled every process of many factories with the same item.
+ *
+ * @apiNote Should only be used from the server thread, and gets cleared at the end of every server tick.
+ */
+@NothingNullByDefault
+public final class FactoryRecipeLookupCache {
+
+    /**
+     * Marker for lookups that we know have no matching recipe, so that we don't have to differentiate between a missing key and a {@code null} value.
+     */
+    private static final Object NO_RECIPE = new Object();
+    private static final Map<LookupKey, Object> LOOKUPS = new HashMap<>();
+
+    private FactoryRecipeLookupCache() {
+    }
+
+    /**
+     * Clears all the lookups that have been cached for this tick.
+     */
+    public static void clear() {
+        if (!LOOKUPS.isEmpty()) {
+            LOOKUPS.clear();
+        }
+    }
+
+    /**
+     * Gets the recipe that matches the given input ignoring what is in the output slots, looking it up if it hasn't been resolved yet this tick.
+     *
+     * @param recipeType Recipe type the lookup is for.
+     * @param input      Input to find the recipe for.
+     * @param lookup     Lookup to perform if the input hasn't been resolved yet this tick.
+     */
+    @Nullable
+    static <RECIPE extends MekanismRecipe> RECIPE findFirstRecipe(IMekanismRecipeTypeProvider<RECIPE, ?> recipeType, ItemStack input,
+          Supplier<@Nullable RECIPE> lookup) {
+        if (input.isEmpty()) {
+            return lookup.get();
+        }
+        return lookup(new LookupKey(recipeType, HashedItem.raw(input), false, null, null), lookup);
+    }
+
+    /**
+     * Gets the recipe that matches the given input and whose outputs can stack with the current contents of the output slots, looking it up if this combination hasn't
+     * been resolved yet this tick.
+     *
+     * @param recipeType      Recipe type the lookup is for.
+     * @param input           Input to find the recipe for.
+     * @param output          Current contents of the output slot.
+     * @param secondaryOutput Current contents of the secondary output slot, or empty if there is no secondary output slot.
+     * @param lookup          Lookup to perform if the combination hasn't been resolved yet this tick.
+     */
+    @Nullable
+    static <RECIPE extends MekanismRecipe> RECIPE findRecipe(IMekanismRecipeTypeProvider<RECIPE, ?> recipeType, ItemStack input, ItemStack output,
+          ItemStack secondaryOutput, Supplier<@Nullable RECIPE> lookup) {
+        if (input.isEmpty()) {
+            return lookup.get();
+        }
+        //Note: We represent empty outputs as null as empty stacks are never considered equal by HashedItem
+        return lookup(new LookupKey(recipeType, HashedItem.raw(input), true, output.isEmpty() ? null : HashedItem.raw(output),
+              secondaryOutput.isEmpty() ? null : HashedItem.raw(secondaryOutput)), lookup);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <RECIPE extends MekanismRecipe> RECIPE lookup(LookupKey key, Supplier<@Nullable RECIPE> lookup) {
+        Object cached = LOOKUPS.get(key);
+        if (cached == null) {
+            RECIPE recipe = lookup.get();
+            //Note: We recreate the key before storing it so that it doesn't reference the raw stacks, as the slots may modify those in place
+            LOOKUPS.put(key.recreate(), recipe == null ? NO_RECIPE : recipe);
+            return recipe;
+        } else if (cached == NO_RECIPE) {
+            return null;
+        }
+        //Note: This cast is safe as the recipe type is part of the key
+        return (RECIPE) cached;
+    }
+
+    private record LookupKey(IMekanismRecipeTypeProvider<?, ?> recipeType, HashedItem input, boolean outputBased, @Nullable HashedItem output,
+                             @Nullable HashedItem secondaryOutput) {
+
+        private LookupKey recreate() {
+            return new LookupKey(recipeType, input.recreate(), outputBased, output == null ? null : output.recreate(),
+                  secondaryOutput == null ? null : secondaryOutput.recreate());
+        }
+    }
+}
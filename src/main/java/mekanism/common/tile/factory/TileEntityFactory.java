@@ -6,12 +6,14 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.NBTConstants;
@@ -45,6 +47,7 @@ import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FactoryInputInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import mekanism.common.recipe.lookup.monitor.FactoryRecipeCacheLookupMonitor;
 import mekanism.common.registries.MekanismTileEntityTypes;
@@ -101,6 +104,15 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * Whether the next sort needs to look at all input slots rather than just the ones that changed since the last sort.
+     */
+    private boolean fullSortNeeded = true;
+    /**
+     * The type and amount of input that was in each process' input slot when we last finished sorting. Used to only have to rebalance the inputs that changed.
+     */
+    private HashedItem[] sortedInputs;
+    private int[] sortedInputCounts;
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -173,6 +185,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
         Runnable setSortingNeeded = () -> sortingNeeded = true;
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
+        sortedInputs = new HashedItem[tier.processes];
+        sortedInputCounts = new int[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
             recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
         }
@@ -219,7 +233,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
-        if (sortingNeeded && isSorting()) {
+        if (!isSorting()) {
+            //We don't keep track of what changes while sorting is disabled, so if it gets enabled make sure we look at everything
+            fullSortNeeded = true;
+        } else if (sortingNeeded) {
             //If sorting is needed, and we have sorting enabled mark
             // sorting as no longer needed and sort the inventory
             sortingNeeded = false;
@@ -230,12 +247,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             // would make it so that some slots are now empty (because of stacked inputs
             // being required), we want to make sure we are able to fill those slots
             // with other items.
-            sortInventory();
-        } else if (!sortingNeeded && CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            if (fullSortNeeded || CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                fullSortNeeded = false;
+                sortInventory(null);
+            } else {
+                sortChangedInputs();
+            }
+            updateSortedInputs();
+        } else if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Otherwise, if sorting isn't currently needed and the recipe cache is invalid
             // Mark sorting as being needed again for the next check as recipes may
             // have changed so our current sort may be incorrect
             sortingNeeded = true;
+            fullSortNeeded = true;
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -258,7 +282,16 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         }
         setActive(isActive);
         //If none of the recipes are actively processing don't bother with any subtraction
-        lastUsage = isActive ? prev.minusEqual(energyContainer.getEnergy()) : FloatingLong.ZERO;
+        if (isActive) {
+            lastUsage = prev.minusEqual(energyContainer.getEnergy());
+            int elapsedTicks = getElapsedTicks();
+            if (elapsedTicks > 1) {
+                //Convert the usage to the average usage per tick if we are part of a tick group
+                lastUsage = lastUsage.divide(elapsedTicks);
+            }
+        } else {
+            lastUsage = FloatingLong.ZERO;
+        }
     }
 
     /**
@@ -291,7 +324,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             }
         }
         //If there is no cached item input, or it doesn't match our fallback then it is an out of date cache, so we ignore the fact that we have a cache
-        RECIPE foundRecipe = findRecipe(process, fallbackInput, outputSlot, secondaryOutputSlot);
+        RECIPE foundRecipe = findSharedRecipe(process, fallbackInput, outputSlot, secondaryOutputSlot);
         if (foundRecipe == null) {
             //We could not find any valid recipe for the given item that matches the items in the current output slots
             return null;
@@ -307,6 +340,53 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected abstract RECIPE findRecipe(int process, @NotNull ItemStack fallbackInput, @NotNull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot);
 
+    /**
+     * Gets the recipe type that lookups for this factory can be shared under via the {@link FactoryRecipeLookupCache}.
+     *
+     * @return The recipe type, or {@code null} if recipe lookups for this factory depend on more than just the contents of the input and output slots and thus can't
+     * be shared with other processes and factories.
+     */
+    @Nullable
+    protected IMekanismRecipeTypeProvider<RECIPE, ?> getSharedLookupType() {
+        return null;
+    }
+
+    private boolean canShareLookups() {
+        //Note: We only share lookups on the server as the cache is cleared by the server tick
+        return level != null && !level.isClientSide() && !CommonWorldTickHandler.flushTagAndRecipeCaches;
+    }
+
+    /**
+     * Wrapper around {@link #findRecipe(int, ItemStack, IInventorySlot, IInventorySlot)} that reuses any result for the same input and outputs that was already looked up
+     * this tick by any process of any factory of the same recipe type.
+     */
+    @Nullable
+    private RECIPE findSharedRecipe(int process, @NotNull ItemStack fallbackInput, @NotNull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
+        IMekanismRecipeTypeProvider<RECIPE, ?> sharedLookupType = getSharedLookupType();
+        if (sharedLookupType == null || !canShareLookups()) {
+            return findRecipe(process, fallbackInput, outputSlot, secondaryOutputSlot);
+        }
+        return FactoryRecipeLookupCache.findRecipe(sharedLookupType, fallbackInput, outputSlot.getStack(),
+              secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack(),
+              () -> findRecipe(process, fallbackInput, outputSlot, secondaryOutputSlot));
+    }
+
+    /**
+     * Helper for implementations of {@link #getRecipe(int)} that reuses any result for the same input that was already looked up this tick by any process of any factory
+     * of the same recipe type.
+     *
+     * @param input  Input to find the recipe for.
+     * @param lookup Lookup to perform if the input hasn't been resolved yet this tick.
+     */
+    @Nullable
+    protected RECIPE findSharedFirstRecipe(@NotNull ItemStack input, Supplier<@Nullable RECIPE> lookup) {
+        IMekanismRecipeTypeProvider<RECIPE, ?> sharedLookupType = getSharedLookupType();
+        if (sharedLookupType == null || !canShareLookups()) {
+            return lookup.get();
+        }
+        return FactoryRecipeLookupCache.findFirstRecipe(sharedLookupType, input, lookup);
+    }
+
     protected abstract int getNeededInput(RECIPE recipe, ItemStack inputStack);
 
     @Nullable
@@ -416,6 +496,30 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         if (upgrade == Upgrade.SPEED) {
             ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
         }
+        unblockRecipes();
+    }
+
+    @Override
+    public boolean canSleepWhenBlocked() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsTickGroups() {
+        return true;
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Note: All our containers either notify the monitors directly or mark the tile as changed, so we can wake the cached recipes from here
+        unblockRecipes();
+    }
+
+    private void unblockRecipes() {
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.unblock();
+        }
     }
 
     @NotNull
@@ -517,7 +621,61 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     }
     //End methods IComputerTile
 
-    private void sortInventory() {
+    /**
+     * Compares the input slots against what they contained when we last sorted, and only rebalances the inputs that were inserted or changed type. Inputs that only
+     * decreased because they were used by their process are still balanced, so we can skip them. If a slot became empty we fall back to looking at all the inputs, as
+     * any of them may have enough spare items to fill the newly empty slot.
+     */
+    private void sortChangedInputs() {
+        Set<HashedItem> changedInputs = null;
+        for (ProcessInfo processInfo : processInfoSlots) {
+            int process = processInfo.process();
+            HashedItem sortedInput = sortedInputs[process];
+            ItemStack inputStack = processInfo.inputSlot().getStack();
+            if (inputStack.isEmpty()) {
+                if (sortedInput != null) {
+                    //The slot was emptied, do a full sort so that we can refill it with whatever input has spare items
+                    sortInventory(null);
+                    return;
+                }
+            } else if (sortedInput == null || inputStack.getCount() > sortedInputCounts[process] || !sortedInput.equals(HashedItem.raw(inputStack))) {
+                //Items were added to the slot, or it contains a different input than it used to, so we need to move the delta to the other slots
+                if (changedInputs == null) {
+                    changedInputs = new HashSet<>();
+                }
+                changedInputs.add(HashedItem.raw(inputStack));
+            }
+        }
+        if (changedInputs != null) {
+            sortInventory(changedInputs);
+        }
+    }
+
+    /**
+     * Updates our snapshot of what each input slot contains after sorting.
+     */
+    private void updateSortedInputs() {
+        for (ProcessInfo processInfo : processInfoSlots) {
+            int process = processInfo.process();
+            ItemStack inputStack = processInfo.inputSlot().getStack();
+            if (inputStack.isEmpty()) {
+                sortedInputs[process] = null;
+                sortedInputCounts[process] = 0;
+            } else {
+                HashedItem sortedInput = sortedInputs[process];
+                if (sortedInput == null || !sortedInput.equals(HashedItem.raw(inputStack))) {
+                    //Note: We only create a new hashed item (which copies the stack) when the type of input changes
+                    sortedInputs[process] = HashedItem.create(inputStack);
+                }
+                sortedInputCounts[process] = inputStack.getCount();
+            }
+        }
+    }
+
+    /**
+     * @param inputsToSort The inputs to balance across the processes, or {@code null} to balance all inputs.
+     */
+    private void sortInventory(@Nullable Set<HashedItem> inputsToSort) {
         Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
         for (ProcessInfo processInfo : processInfoSlots) {
@@ -527,6 +685,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             } else {
                 ItemStack inputStack = inputSlot.getStack();
                 HashedItem item = HashedItem.raw(inputStack);
+                if (inputsToSort != null && !inputsToSort.contains(item)) {
+                    //Input hasn't changed since we last sorted it, so it is still balanced
+                    continue;
+                }
                 RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
                 recipeProcessInfo.processes.add(processInfo);
                 recipeProcessInfo.totalCount += inputStack.getCount();
@@ -707,6 +869,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
                         //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
                         // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
                         inputSlot.setEmpty();
+                        //Make sure that the next time we sort we look at all inputs so that we can try to fill the slot with other items
+                        fullSortNeeded = true;
                     } else if (inputSlot.getCount() != sizeForSlot) {
                         //Otherwise, if our slot doesn't already contain the amount we want it to,
                         // we need to adjust how much is stored in it, and log an error if it changed
@@ -9,6 +9,7 @@ import mekanism.api.recipes.ItemStackToItemStackRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
 import mekanism.api.recipes.cache.OneInputCachedRecipe;
+import mekanism.api.recipes.inputs.IInputHandler;
 import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.ISingleRecipeLookupHandler.ItemRecipeLookupHandler;
@@ -75,7 +76,13 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
     @Nullable
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
-        return findFirstRecipe(inputHandlers[cacheIndex]);
+        IInputHandler<@NotNull ItemStack> inputHandler = inputHandlers[cacheIndex];
+        return findSharedFirstRecipe(inputHandler.getInput(), () -> findFirstRecipe(inputHandler));
+    }
+
+    @Override
+    protected IMekanismRecipeTypeProvider<ItemStackToItemStackRecipe, SingleItem<ItemStackToItemStackRecipe>> getSharedLookupType() {
+        return getRecipeType();
     }
 
     @NotNull
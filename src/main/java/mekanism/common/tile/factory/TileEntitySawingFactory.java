@@ -125,7 +125,13 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> im
     @Nullable
     @Override
     public SawmillRecipe getRecipe(int cacheIndex) {
-        return findFirstRecipe(inputHandlers[cacheIndex]);
+        IInputHandler<@NotNull ItemStack> inputHandler = inputHandlers[cacheIndex];
+        return findSharedFirstRecipe(inputHandler.getInput(), () -> findFirstRecipe(inputHandler));
+    }
+
+    @Override
+    protected IMekanismRecipeTypeProvider<SawmillRecipe, SingleItem<SawmillRecipe>> getSharedLookupType() {
+        return getRecipeType();
     }
 
     @NotNull
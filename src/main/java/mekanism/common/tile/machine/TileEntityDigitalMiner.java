@@ -231,6 +231,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             }
             initCalc = true;
         }
+        if (running && searcher.state == State.IDLE) {
+            //The background executor was too busy to start the search when we tried to start, try again
+            start();
+        }
 
         energySlot.fillContainerOrConvert();
 
@@ -766,8 +770,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
-            searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter)));
-            searcher.start();
+            //Note: If there is too much going on in the background to start searching right now, the searcher stays idle,
+            // and as we still mark the miner as running, we will try starting the search again next tick
+            searcher.start(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter)));
         }
         running = true;
         markForSave();
@@ -775,7 +780,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -783,11 +787,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             //Reset the target chunk, so it isn't loaded as we might don't want to let the user just have two chunks loaded
             // eternally (or until server restart) by intentionally stopping the miner
             updateTargetChunk(null);
+        } else if (running) {
+            //Stop trying to start the search if it is still waiting on the background executor
+            running = false;
+            markForSave();
         }
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
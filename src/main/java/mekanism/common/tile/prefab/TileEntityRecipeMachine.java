@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import mekanism.api.IContentsListener;
+import mekanism.api.Upgrade;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -83,6 +84,29 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return recipeCacheLookupMonitor;
     }
 
+    @Override
+    public boolean canSleepWhenBlocked() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsTickGroups() {
+        return true;
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Note: All our containers either notify the monitor directly or mark the tile as changed, so we can wake the cached recipe from here
+        recipeCacheLookupMonitor.unblock();
+    }
+
+    @Override
+    public void recalculateUpgrades(Upgrade upgrade) {
+        super.recalculateUpgrades(upgrade);
+        recipeCacheLookupMonitor.unblock();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
@@ -92,6 +92,18 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter implements I
         return updateTag;
     }
 
+    @NotNull
+    @Override
+    protected CompoundTag getSyncBaseline(@NotNull CompoundTag tag) {
+        if (tag.contains(NBTConstants.FLUID_STORED) || tag.contains(NBTConstants.SCALE)) {
+            //Don't include the stored information that is only part of the initial update tag, so that it isn't reapplied to the network by later updates
+            tag = tag.copy();
+            tag.remove(NBTConstants.FLUID_STORED);
+            tag.remove(NBTConstants.SCALE);
+        }
+        return tag;
+    }
+
     private List<IExtendedFluidTank> getFluidTanks(@Nullable Direction side) {
         return fluidHandlerManager.getContainers(side);
     }
@@ -124,6 +124,18 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter implements
         return updateTag;
     }
 
+    @NotNull
+    @Override
+    protected CompoundTag getSyncBaseline(@NotNull CompoundTag tag) {
+        if (tag.contains(NBTConstants.BOXED_CHEMICAL) || tag.contains(NBTConstants.SCALE)) {
+            //Don't include the stored information that is only part of the initial update tag, so that it isn't reapplied to the network by later updates
+            tag = tag.copy();
+            tag.remove(NBTConstants.BOXED_CHEMICAL);
+            tag.remove(NBTConstants.SCALE);
+        }
+        return tag;
+    }
+
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, TANK extends IChemicalTank<CHEMICAL, STACK>>
     IChemicalTankHolder<CHEMICAL, STACK, TANK> getHolder(BiFunction<BoxedPressurizedTube, Direction, List<TANK>> tankFunction) {
         return direction -> {
@@ -92,6 +92,18 @@ public class TileEntityUniversalCable extends TileEntityTransmitter implements I
         return updateTag;
     }
 
+    @NotNull
+    @Override
+    protected CompoundTag getSyncBaseline(@NotNull CompoundTag tag) {
+        if (tag.contains(NBTConstants.ENERGY_STORED) || tag.contains(NBTConstants.SCALE)) {
+            //Don't include the stored information that is only part of the initial update tag, so that it isn't reapplied to the network by later updates
+            tag = tag.copy();
+            tag.remove(NBTConstants.ENERGY_STORED);
+            tag.remove(NBTConstants.SCALE);
+        }
+        return tag;
+    }
+
     private List<IEnergyContainer> getEnergyContainers(@Nullable Direction side) {
         return energyHandlerManager.getContainers(side);
     }
@@ -2,12 +2,14 @@ package mekanism.common.world;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.ToIntFunction;
 import mekanism.common.Mekanism;
 import mekanism.common.resource.ore.OreType;
 import mekanism.common.resource.ore.OreType.OreVeinType;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -19,18 +21,30 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.FeatureSorter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
 import net.minecraft.world.level.levelgen.GenerationStep;
+import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.RandomSupport;
 import net.minecraft.world.level.levelgen.WorldgenRandom;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
 import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.ticks.ProtoChunkTicks;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class GenHandler {
@@ -52,16 +66,93 @@ public class GenHandler {
      * @return {@code true} if some retro-generation happened.
      *
      * @apiNote Only call this method if the chunk at the given position is loaded.
-     * @implNote Adapted from {@link ChunkGenerator#applyBiomeDecoration(WorldGenLevel, ChunkAccess, StructureManager)}.
      */
     public static boolean generate(ServerLevel world, ChunkPos chunkPos) {
+        return placeFeatures(world, world.getChunkSource().getGenerator(), chunkPos, world.getSeed(), getMekanismFeatures(world.registryAccess()));
+    }
+
+    /**
+     * Copies the blocks of the chunk and its neighbours, so that what retro-generation would place in the chunk can be planned off thread by
+     * {@link #plan(RetrogenSnapshot)}. The neighbours are needed as features may extend past the edge of the chunk they are placed in.
+     *
+     * @return The snapshot, or {@code null} if any of the neighbouring chunks aren't loaded, in which case {@link #generate(ServerLevel, ChunkPos)} has to be used
+     * instead.
+     *
+     * @apiNote Only call this method on the server thread, and only if the chunk at the given position is loaded.
+     */
+    @Nullable
+    public static RetrogenSnapshot snapshot(ServerLevel world, ChunkPos chunkPos) {
+        Registry<Biome> biomeRegistry = world.registryAccess().registryOrThrow(Registries.BIOME);
+        List<BlockChange> changes = new ArrayList<>();
+        //Note: The region looks chunks up by x + z * size, so we have to add them in that order
+        List<ChunkAccess> chunks = new ArrayList<>(9);
+        for (int z = -1; z <= 1; z++) {
+            for (int x = -1; x <= 1; x++) {
+                LevelChunk chunk = world.getChunkSource().getChunkNow(chunkPos.x + x, chunkPos.z + z);
+                if (chunk == null) {
+                    return null;
+                }
+                chunks.add(copy(world, chunk, biomeRegistry, changes));
+            }
+        }
+        return new RetrogenSnapshot(chunkPos, new WorldGenRegion(world, chunks, ChunkStatus.FULL, 1), world.getChunkSource().getGenerator(), world.getSeed(),
+              getMekanismFeatures(world.registryAccess()), changes);
+    }
+
+    private static ProtoChunk copy(ServerLevel world, LevelChunk chunk, Registry<Biome> biomeRegistry, List<BlockChange> changes) {
+        LevelChunkSection[] sections = chunk.getSections();
+        LevelChunkSection[] copies = new LevelChunkSection[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            copies[i] = new RecordingSection(sections[i], SectionPos.of(chunk.getPos(), chunk.getSectionYFromSectionIndex(i)), changes);
+        }
+        ProtoChunk copy = new ProtoChunk(chunk.getPos(), UpgradeData.EMPTY, copies, new ProtoChunkTicks<>(), new ProtoChunkTicks<>(), world, biomeRegistry, null);
+        for (Map.Entry<Heightmap.Types, Heightmap> entry : chunk.getHeightmaps()) {
+            copy.setHeightmap(entry.getKey(), entry.getValue().getRawData().clone());
+        }
+        copy.setStatus(ChunkStatus.FULL);
+        return copy;
+    }
+
+    /**
+     * Plans what retro-generation would place in the chunk of the given snapshot.
+     *
+     * @return The block changes to apply using {@link #apply(ServerLevel, List)}.
+     *
+     * @apiNote This only accesses the snapshot, so it is safe to call off thread.
+     */
+    public static List<BlockChange> plan(RetrogenSnapshot snapshot) {
+        placeFeatures(snapshot.region(), snapshot.generator(), snapshot.chunkPos(), snapshot.seed(), snapshot.features());
+        return snapshot.changes();
+    }
+
+    /**
+     * Applies planned block changes to the world. Any blocks that have changed since the snapshot the changes were planned against was taken are skipped.
+     *
+     * @return {@code true} if some retro-generation happened.
+     *
+     * @apiNote Only call this method on the server thread.
+     */
+    public static boolean apply(ServerLevel world, List<BlockChange> changes) {
+        boolean generated = false;
+        for (BlockChange change : changes) {
+            BlockPos pos = change.pos();
+            if (WorldUtils.isBlockLoaded(world, pos) && world.getBlockState(pos) == change.previous()) {
+                generated |= world.setBlock(pos, change.state(), Block.UPDATE_CLIENTS);
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * @implNote Adapted from {@link ChunkGenerator#applyBiomeDecoration(WorldGenLevel, ChunkAccess, StructureManager)}.
+     */
+    private static boolean placeFeatures(WorldGenLevel world, ChunkGenerator chunkGenerator, ChunkPos chunkPos, long seed, List<MekFeature> features) {
         boolean generated = false;
         if (!SharedConstants.debugVoidTerrain(chunkPos)) {
             SectionPos sectionPos = SectionPos.of(chunkPos, world.getMinSection());
             BlockPos blockPos = sectionPos.origin();
-            ChunkGenerator chunkGenerator = world.getChunkSource().getGenerator();
             WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
-            long decorationSeed = random.setDecorationSeed(world.getSeed(), blockPos.getX(), blockPos.getZ());
+            long decorationSeed = random.setDecorationSeed(seed, blockPos.getX(), blockPos.getZ());
             int decorationStep = GenerationStep.Decoration.UNDERGROUND_ORES.ordinal() - 1;
             ToIntFunction<PlacedFeature> featureIndex;
             List<FeatureSorter.StepFeatureData> list = chunkGenerator.featuresPerStep.get();
@@ -75,7 +166,6 @@ public class GenHandler {
             } else {
                 featureIndex = feature -> -1;
             }
-            List<MekFeature> features = getMekanismFeatures(world.registryAccess());
             for (MekFeature feature : features) {
                 generated |= place(world, chunkGenerator, blockPos, random, decorationSeed, decorationStep, featureIndex, feature);
             }
@@ -117,6 +207,48 @@ public class GenHandler {
         return cachedFeatures;
     }
 
+    /**
+     * Copies of the blocks around a chunk that retro-generation can be planned against off thread.
+     */
+    public record RetrogenSnapshot(ChunkPos chunkPos, WorldGenRegion region, ChunkGenerator generator, long seed, List<MekFeature> features,
+                                   List<BlockChange> changes) {
+    }
+
+    /**
+     * A block that retro-generation wants to change.
+     *
+     * @param previous State the block had when the snapshot was taken.
+     * @param state    State to change the block to.
+     */
+    public record BlockChange(BlockPos pos, BlockState previous, BlockState state) {
+    }
+
+    /**
+     * Copy of a chunk section that keeps track of all the blocks that get changed in it.
+     */
+    private static class RecordingSection extends LevelChunkSection {
+
+        private final SectionPos sectionPos;
+        private final List<BlockChange> changes;
+
+        private RecordingSection(LevelChunkSection section, SectionPos sectionPos, List<BlockChange> changes) {
+            //Note: We don't copy the biomes as they are only read, and they don't change after the chunk has been generated
+            super(section.getStates().copy(), section.getBiomes());
+            this.sectionPos = sectionPos;
+            this.changes = changes;
+        }
+
+        @NotNull
+        @Override
+        public BlockState setBlockState(int x, int y, int z, @NotNull BlockState state, boolean useLocks) {
+            BlockState previous = super.setBlockState(x, y, z, state, useLocks);
+            if (previous != state) {
+                changes.add(new BlockChange(new BlockPos(sectionPos.minBlockX() + x, sectionPos.minBlockY() + y, sectionPos.minBlockZ() + z), previous, state));
+            }
+            return previous;
+        }
+    }
+
     private record MekFeature(Holder<PlacedFeature> feature, Holder<PlacedFeature> retrogen, String retrogenKey) {
 
         @Nullable
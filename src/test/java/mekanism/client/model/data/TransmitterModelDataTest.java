@@ -0,0 +1,51 @@
+package mekanism.client.model.data;
+
+import mekanism.common.lib.transmitter.ConnectionType;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test packing the connections of transmitter model data")
+class TransmitterModelDataTest implements WithQuickTheories {
+
+    private static final ConnectionType[] TYPES = ConnectionType.values();
+
+    @Test
+    @DisplayName("Test new model data has no connections")
+    void testDefault() {
+        TransmitterModelData data = new TransmitterModelData();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            Assertions.assertEquals(ConnectionType.NONE, data.getConnectionType(side));
+        }
+    }
+
+    @Test
+    @DisplayName("Test connections can be read back after being packed")
+    void testRoundTrip() {
+        qt().forAll(integers().between(0, TransmitterModelData.CONNECTION_STATES - 1)).checkAssert(packed -> {
+            TransmitterModelData data = new TransmitterModelData();
+            ConnectionType[] expected = new ConnectionType[EnumUtils.DIRECTIONS.length];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                ConnectionType type = TYPES[(packed >> (2 * side.ordinal())) & 3];
+                expected[side.ordinal()] = type;
+                data.setConnectionData(side, type);
+            }
+            Assertions.assertTrue(data.check(expected));
+            Assertions.assertTrue(data.getConnections() >= 0 && data.getConnections() < TransmitterModelData.CONNECTION_STATES);
+        });
+    }
+
+    @Test
+    @DisplayName("Test changing one side doesn't change the others")
+    void testOverwrite() {
+        TransmitterModelData data = new TransmitterModelData();
+        data.setConnectionData(Direction.UP, ConnectionType.PUSH);
+        data.setConnectionData(Direction.NORTH, ConnectionType.PULL);
+        data.setConnectionData(Direction.UP, ConnectionType.NORMAL);
+        Assertions.assertTrue(data.check(ConnectionType.NONE, ConnectionType.NORMAL, ConnectionType.PULL, ConnectionType.NONE, ConnectionType.NONE,
+              ConnectionType.NONE));
+    }
+}
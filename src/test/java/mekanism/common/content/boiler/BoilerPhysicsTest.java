@@ -0,0 +1,84 @@
+package mekanism.common.content.boiler;
+
+import mekanism.api.math.MathUtils;
+import mekanism.common.util.HeatUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+import org.quicktheories.core.Gen;
+import org.quicktheories.impl.Constraint;
+
+@DisplayName("Test that the primitive boiler physics match the original implementation")
+class BoilerPhysicsTest implements WithQuickTheories {
+
+    //Note: We don't use HeatUtils.BASE_BOIL_TEMP so that the test doesn't need to load the unit display classes
+    private static final double BOIL_TEMPERATURE = 373.15;
+
+    private record Boiler(BoilerPhysics.Settings settings, int superheatingElements, double heatCapacity, double temperature, long coolant, int water, long steamNeeded) {
+
+        BoilerPhysics physics() {
+            return new BoilerPhysics(settings, superheatingElements, heatCapacity);
+        }
+    }
+
+    private static Gen<Boiler> boilers() {
+        return prng -> {
+            BoilerPhysics.Settings settings = new BoilerPhysics.Settings(prng.next(Constraint.between(1, 100)) / 100D, prng.next(Constraint.between(1, 10_240_000_000L)) / 10D,
+                  prng.next(Constraint.between(1, 1_000_000)) / 10D, 0.2, BOIL_TEMPERATURE);
+            return new Boiler(settings, (int) prng.next(Constraint.between(1, 1_000)), 50 * prng.next(Constraint.between(100, 10_000)),
+                  prng.next(Constraint.between(0, 200_000_000)) / 1_000D, prng.next(Constraint.between(0, Long.MAX_VALUE / 2)),
+                  (int) prng.next(Constraint.between(0, Integer.MAX_VALUE)), prng.next(Constraint.between(0, Long.MAX_VALUE)));
+        };
+    }
+
+    @Test
+    @DisplayName("Test boiling water matches the original implementation")
+    void testBoiling() {
+        qt().forAll(boilers()).check(boiler -> {
+            BoilerPhysics.Settings settings = boiler.settings();
+            BoilerPhysics physics = boiler.physics();
+            double heatAvailable = (boiler.temperature() - BOIL_TEMPERATURE) * (boiler.heatCapacity() * settings.waterConductivity());
+            heatAvailable = Math.min(heatAvailable, settings.superheatingHeatTransfer() * boiler.superheatingElements());
+            if (heatAvailable != physics.getHeatAvailable(boiler.temperature())) {
+                return false;
+            }
+            int maxBoil = (int) Math.floor(settings.steamEnergyEfficiency() * heatAvailable / settings.waterThermalEnthalpy());
+            if (maxBoil != physics.getMaxBoil(heatAvailable)) {
+                return false;
+            }
+            int amountToBoil = Math.min(maxBoil, boiler.water());
+            amountToBoil = Math.min(amountToBoil, MathUtils.clampToInt(boiler.steamNeeded()));
+            return amountToBoil == physics.getAmountToBoil(maxBoil, boiler.water(), boiler.steamNeeded()) &&
+                   -amountToBoil * settings.waterThermalEnthalpy() / settings.steamEnergyEfficiency() == physics.getBoilingHeat(amountToBoil);
+        });
+    }
+
+    @Test
+    @DisplayName("Test cooling coolant matches the original implementation")
+    void testCooling() {
+        qt().forAll(boilers()).check(boiler -> {
+            long toCool = Math.round(0.4 * boiler.coolant());
+            toCool = MathUtils.clampToLong(toCool * (1 - boiler.temperature() / HeatUtils.HEATED_COOLANT_TEMP));
+            return toCool == boiler.physics().getCoolantToCool(boiler.coolant(), boiler.temperature());
+        });
+    }
+
+    @Test
+    @DisplayName("Test the boil capacity matches the original implementation")
+    void testBoilCapacity() {
+        qt().forAll(boilers()).check(boiler -> {
+            BoilerPhysics.Settings settings = boiler.settings();
+            double boilCapacity = settings.superheatingHeatTransfer() * boiler.superheatingElements() / settings.waterThermalEnthalpy();
+            return MathUtils.clampToLong(boilCapacity * settings.steamEnergyEfficiency()) == boiler.physics().getBoilCapacity();
+        });
+    }
+
+    @Test
+    @DisplayName("Test a cold boiler doesn't boil any water")
+    void testCold() {
+        BoilerPhysics physics = new BoilerPhysics(new BoilerPhysics.Settings(0.7, 16_000_000, 10, 0.2, BOIL_TEMPERATURE), 10, 50_000);
+        Assertions.assertEquals(0, physics.getMaxBoil(physics.getHeatAvailable(BOIL_TEMPERATURE)));
+        Assertions.assertTrue(physics.getMaxBoil(physics.getHeatAvailable(BOIL_TEMPERATURE + 10)) > 0);
+    }
+}
@@ -0,0 +1,56 @@
+package mekanism.common.content.evaporation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test that the primitive evaporation physics match the original implementation")
+class EvaporationPhysicsTest implements WithQuickTheories {
+
+    @Test
+    @DisplayName("Test the temperature multiplier matches the original implementation")
+    void testTempMultiplier() {
+        qt().forAll(integers().between(3, EvaporationMultiblockData.MAX_HEIGHT), doubles().between(0.001, 10), doubles().between(0, 10_000))
+              .check((height, configMultiplier, temperature) -> {
+                  EvaporationPhysics physics = new EvaporationPhysics(new EvaporationPhysics.Settings(configMultiplier, 0.2, 0.02), height);
+                  double expected = (Math.min(EvaporationMultiblockData.MAX_MULTIPLIER_TEMP, temperature) - 300) * configMultiplier *
+                                    ((double) height / EvaporationMultiblockData.MAX_HEIGHT);
+                  return expected == physics.getTempMultiplier(temperature);
+              });
+    }
+
+    @Test
+    @DisplayName("Test the environment heat exchange matches the original implementation")
+    void testEnvironment() {
+        qt().forAll(doubles().between(0.001, 10), doubles().between(0, 10_000), doubles().between(0, 10_000))
+              .check((dissipation, temperature, ambient) -> {
+                  EvaporationPhysics physics = new EvaporationPhysics(new EvaporationPhysics.Settings(0.1, 0.2, dissipation), 18);
+                  double incr = dissipation * Math.sqrt(Math.abs(temperature - ambient));
+                  if (temperature > ambient) {
+                      incr = -incr;
+                  }
+                  return incr == physics.getTemperatureChange(temperature, ambient);
+              });
+    }
+
+    @Test
+    @DisplayName("Test the processing speed matches the original implementation")
+    void testProcessing() {
+        qt().forAll(doubles().between(-100, 100)).check(tempMultiplier -> {
+            double gain = tempMultiplier > 0 && tempMultiplier < 1 ? 1F / (int) Math.ceil(1 / tempMultiplier) : tempMultiplier;
+            int requiredTicks = tempMultiplier > 0 && tempMultiplier < 1 ? (int) Math.ceil(1 / tempMultiplier) : 1;
+            int maxOperations = tempMultiplier > 0 && tempMultiplier < 1 ? 1 : (int) tempMultiplier;
+            return gain == EvaporationPhysics.getGain(tempMultiplier) && requiredTicks == EvaporationPhysics.getRequiredTicks(tempMultiplier) &&
+                   maxOperations == EvaporationPhysics.getMaxOperations(tempMultiplier);
+        });
+    }
+
+    @Test
+    @DisplayName("Test an ambient temperature plant doesn't process")
+    void testAmbient() {
+        EvaporationPhysics physics = new EvaporationPhysics(new EvaporationPhysics.Settings(0.1, 0.2, 0.02), 18);
+        Assertions.assertEquals(0, physics.getTempMultiplier(300));
+        Assertions.assertEquals(0, EvaporationPhysics.getMaxOperations(physics.getTempMultiplier(300)));
+    }
+}
@@ -0,0 +1,76 @@
+package mekanism.common.content.qio;
+
+import java.util.Objects;
+import java.util.stream.LongStream;
+import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test deferred writing of QIO drive metadata")
+class DriveMetadataTrackerTest implements WithQuickTheories {
+
+    @Test
+    @DisplayName("Test initial metadata gets written")
+    void testInitialWrite() {
+        DriveMetadataTracker tracker = new DriveMetadataTracker();
+        Assertions.assertEquals(new DriveMetadata(0, 0), tracker.flush());
+        Assertions.assertNull(tracker.flush());
+    }
+
+    @Test
+    @DisplayName("Test unchanged metadata doesn't get rewritten")
+    void testUnchanged() {
+        DriveMetadataTracker tracker = new DriveMetadataTracker();
+        tracker.update(5, 1);
+        Assertions.assertEquals(new DriveMetadata(5, 1), tracker.flush());
+        Assertions.assertNull(tracker.flush());
+        //Adding and then removing the same amount between flushes shouldn't cause a write
+        tracker.update(10, 2);
+        tracker.update(5, 1);
+        Assertions.assertNull(tracker.flush());
+        //But forcing a flush should
+        Assertions.assertEquals(new DriveMetadata(5, 1), tracker.forceFlush());
+    }
+
+    @Test
+    @DisplayName("Test deferred writes persist the same metadata as writing after every change")
+    void testMatchesEagerWrites() {
+        qt().forAll(lists().of(integers().between(-100, 100)).ofSizeBetween(0, 200), integers().between(1, 20))
+              .check((changes, flushInterval) -> {
+                  //Simulate the drive being created, which always writes the metadata
+                  DriveMetadataTracker tracker = new DriveMetadataTracker();
+                  DriveMetadata deferred = tracker.forceFlush();
+                  DriveMetadata eager = new DriveMetadata(0, 0);
+                  int deferredWrites = 1;
+                  int eagerWrites = 1;
+                  long[] stored = new long[4];
+                  for (int i = 0; i < changes.size(); i++) {
+                      int change = changes.get(i);
+                      int type = Math.floorMod(change, stored.length);
+                      stored[type] = Math.max(0, stored[type] + change);
+                      long count = LongStream.of(stored).sum();
+                      int types = (int) LongStream.of(stored).filter(amount -> amount > 0).count();
+                      tracker.update(count, types);
+                      eager = new DriveMetadata(count, types);
+                      eagerWrites++;
+                      if (i % flushInterval == 0) {
+                          //Simulate the end of a tick
+                          DriveMetadata written = tracker.flush();
+                          if (written != null) {
+                              deferred = written;
+                              deferredWrites++;
+                          }
+                      }
+                  }
+                  //Simulate the drive being saved or removed
+                  DriveMetadata written = tracker.flush();
+                  if (written != null) {
+                      deferred = written;
+                      deferredWrites++;
+                  }
+                  return Objects.equals(eager, deferred) && deferredWrites <= eagerWrites;
+              });
+    }
+}
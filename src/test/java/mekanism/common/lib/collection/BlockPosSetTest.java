@@ -0,0 +1,67 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.HashSet;
+import java.util.Set;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test bit packed block position sets")
+class BlockPosSetTest implements WithQuickTheories {
+
+    private static final VoxelCuboid BOUNDS = new VoxelCuboid(new BlockPos(-3, 60, 5), new BlockPos(4, 66, 7));
+
+    @Test
+    @DisplayName("Test positions on the corners of the bounds")
+    void testCorners() {
+        BlockPosSet set = new BlockPosSet(BOUNDS);
+        BlockPos min = BOUNDS.getMinPos(), max = BOUNDS.getMaxPos();
+        Assertions.assertTrue(set.add(min));
+        Assertions.assertTrue(set.add(max));
+        Assertions.assertFalse(set.add(max));
+        Assertions.assertTrue(set.contains(min));
+        Assertions.assertTrue(set.contains(max.asLong()));
+        Assertions.assertFalse(set.contains(max.above()));
+        Assertions.assertEquals(Set.of(min, max), new HashSet<>(set.asSet()));
+        Assertions.assertTrue(set.remove(min));
+        Assertions.assertFalse(set.remove(min));
+        Assertions.assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Test bounded sets behave like a set of packed positions")
+    void testMatchesLongSet() {
+        qt().forAll(lists().of(integers().between(-6, 8)).ofSizeBetween(0, 300))
+              .check(values -> {
+                  BlockPosSet bounded = new BlockPosSet(BOUNDS);
+                  BlockPosSet unbounded = new BlockPosSet();
+                  LongOpenHashSet expected = new LongOpenHashSet();
+                  for (int i = 0; i + 3 < values.size(); i += 4) {
+                      //Offset the values so that some positions end up outside the bounds
+                      long pos = BlockPos.asLong(values.get(i), 60 + values.get(i + 1), 5 + values.get(i + 2));
+                      boolean add = values.get(i + 3) >= 0;
+                      boolean changed = add ? expected.add(pos) : expected.remove(pos);
+                      if (changed != (add ? bounded.add(pos) : bounded.remove(pos)) || changed != (add ? unbounded.add(pos) : unbounded.remove(pos))) {
+                          return false;
+                      }
+                  }
+                  return matches(expected, bounded) && matches(expected, unbounded) && bounded.equals(unbounded) && bounded.hashCode() == unbounded.hashCode();
+              });
+    }
+
+    private static boolean matches(LongOpenHashSet expected, BlockPosSet actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        LongOpenHashSet iterated = new LongOpenHashSet();
+        for (LongIterator iterator = actual.longIterator(); iterator.hasNext(); ) {
+            iterated.add(iterator.nextLong());
+        }
+        return expected.equals(iterated) && expected.longStream().allMatch(actual::contains);
+    }
+}
@@ -0,0 +1,67 @@
+package mekanism.common.lib.multiblock;
+
+import java.util.UUID;
+import net.minecraft.SharedConstants;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test expiring unused multiblock caches")
+class MultiblockCacheExpiryTest {
+
+    private static final long EXPIRY = SharedConstants.TICKS_PER_GAME_DAY;
+
+    private static MultiblockManager<MultiblockData> createManager() {
+        return new MultiblockManager<>("Test", MultiblockCache::new, () -> null);
+    }
+
+    private static UUID track(MultiblockManager<MultiblockData> manager) {
+        UUID id = UUID.randomUUID();
+        manager.trackCache(id, manager.createCache());
+        return id;
+    }
+
+    @Test
+    @DisplayName("Test only caches that haven't been used for longer than the expiry get removed")
+    void testExpiry() {
+        MultiblockManager<MultiblockData> manager = createManager();
+        UUID used = track(manager);
+        UUID unused = track(manager);
+        manager.markOwned(used, 0);
+        manager.markOwned(unused, 0);
+        manager.markOwned(used, EXPIRY);
+        Assertions.assertEquals(0, manager.removeExpiredCaches(EXPIRY, EXPIRY));
+        Assertions.assertEquals(1, manager.removeExpiredCaches(EXPIRY + 1, EXPIRY));
+        Assertions.assertNotNull(manager.getCache(used));
+        Assertions.assertNull(manager.getCache(unused));
+    }
+
+    @Test
+    @DisplayName("Test caches that have never been seen being used are treated as being used when first checked")
+    void testUntracked() {
+        MultiblockManager<MultiblockData> manager = createManager();
+        UUID id = track(manager);
+        long start = 10 * EXPIRY;
+        Assertions.assertEquals(0, manager.removeExpiredCaches(start, EXPIRY));
+        Assertions.assertEquals(0, manager.removeExpiredCaches(start + EXPIRY, EXPIRY));
+        Assertions.assertNotNull(manager.getCache(id));
+        Assertions.assertEquals(1, manager.removeExpiredCaches(start + EXPIRY + 1, EXPIRY));
+        Assertions.assertNull(manager.getCache(id));
+    }
+
+    @Test
+    @DisplayName("Test the saved last owned time of a loaded multiblock never falls behind by more than the margin")
+    void testSavedTimeStaysRecent() {
+        MultiblockManager<MultiblockData> manager = createManager();
+        UUID id = track(manager);
+        long saved = -1;
+        for (long gameTime = 0; gameTime < 5 * EXPIRY; gameTime++) {
+            if (manager.markOwned(id, gameTime)) {
+                saved = gameTime;
+            }
+            Assertions.assertTrue(saved >= 0 && gameTime - saved <= MultiblockManager.LAST_OWNED_SAVE_MARGIN);
+        }
+        //Only mark the data as dirty when the saved time is actually stale rather than every tick
+        Assertions.assertFalse(manager.markOwned(id, saved + 1));
+    }
+}
@@ -0,0 +1,71 @@
+package mekanism.common.network.to_client;
+
+import java.util.List;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test applying tile update deltas")
+class TileUpdateTest {
+
+    private static CompoundTag baseline() {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("unchanged", 1);
+        tag.putInt("changed", 2);
+        tag.putString("removed", "removed");
+        CompoundTag nested = new CompoundTag();
+        nested.putInt("a", 1);
+        nested.putInt("b", 2);
+        tag.put("nested", nested);
+        return tag;
+    }
+
+    private static CompoundTag current() {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("unchanged", 1);
+        tag.putInt("changed", 3);
+        tag.putBoolean("added", true);
+        CompoundTag nested = new CompoundTag();
+        nested.putInt("a", 1);
+        tag.put("nested", nested);
+        return tag;
+    }
+
+    @Test
+    @DisplayName("Test a delta only contains what changed")
+    void testDeltaContents() {
+        TileUpdate update = TileUpdate.delta(BlockPos.ZERO, baseline(), current());
+        Assertions.assertFalse(update.isEmpty());
+        Assertions.assertFalse(update.updateTag().contains("unchanged"));
+        Assertions.assertTrue(update.updateTag().contains("changed"));
+        Assertions.assertTrue(update.updateTag().contains("added"));
+        Assertions.assertTrue(update.updateTag().contains("nested"));
+        Assertions.assertEquals(List.of("removed"), update.removedKeys());
+    }
+
+    @Test
+    @DisplayName("Test applying a delta to the baseline recreates the full tag")
+    void testDeltaApply() {
+        CompoundTag baseline = baseline();
+        TileUpdate update = TileUpdate.delta(BlockPos.ZERO, baseline, current());
+        Assertions.assertEquals(current(), update.apply(baseline));
+        //Make sure applying the delta didn't modify the baseline
+        Assertions.assertEquals(baseline(), baseline);
+    }
+
+    @Test
+    @DisplayName("Test an unchanged tile produces an empty delta")
+    void testUnchanged() {
+        Assertions.assertTrue(TileUpdate.delta(BlockPos.ZERO, current(), current()).isEmpty());
+        Assertions.assertFalse(TileUpdate.full(BlockPos.ZERO, new CompoundTag()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test full updates ignore the baseline")
+    void testFull() {
+        Assertions.assertEquals(current(), TileUpdate.full(BlockPos.ZERO, current()).apply(baseline()));
+    }
+}
@@ -0,0 +1,91 @@
+package mekanism.common.recipe.lookup.monitor;
+
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the nucleosynthesizer's extra operations when it only gets ticked every few ticks")
+class NucleosynthesizerBoostTest {
+
+    private static final int TICKS = 1_200;
+    private static final int REQUIRED_TICKS = 50;
+
+    /**
+     * Simulates the given number of ticks of a machine that gets ticked every {@code divider} ticks, and returns how many times the recipe finished.
+     */
+    private static int simulate(int divider, int extraOperations) {
+        CountingCachedRecipe cachedRecipe = new CountingCachedRecipe();
+        for (int tick = divider; tick <= TICKS; tick += divider) {
+            cachedRecipe.process(divider);
+            NucleosynthesizerRecipeCacheLookupMonitor.processExtraOperations(cachedRecipe, extraOperations, divider);
+        }
+        return cachedRecipe.finished;
+    }
+
+    @Test
+    @DisplayName("Test the throughput is the same as when ticked every tick")
+    void testThroughput() {
+        for (int extraOperations = 0; extraOperations <= 4; extraOperations++) {
+            int expected = simulate(1, extraOperations);
+            Assertions.assertEquals((1 + extraOperations) * TICKS / REQUIRED_TICKS, expected);
+            for (int divider : new int[]{2, 3, 4, 5, 8, 20}) {
+                Assertions.assertEquals(expected, simulate(divider, extraOperations), "Divider: " + divider + ", extra operations: " + extraOperations);
+            }
+        }
+    }
+
+    private static class CountingCachedRecipe extends CachedRecipe<TestRecipe> {
+
+        private int finished;
+
+        private CountingCachedRecipe() {
+            super(new TestRecipe(), () -> false);
+            setRequiredTicks(() -> REQUIRED_TICKS);
+        }
+
+        @Override
+        public boolean isInputValid() {
+            return true;
+        }
+
+        @Override
+        protected void finishProcessing(int operations) {
+            finished += operations;
+        }
+    }
+
+    private static class TestRecipe extends MekanismRecipe {
+
+        private TestRecipe() {
+            super(new ResourceLocation("mekanism", "test"));
+        }
+
+        @Override
+        public void write(FriendlyByteBuf buffer) {
+        }
+
+        @Override
+        public boolean isIncomplete() {
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public RecipeSerializer<?> getSerializer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public RecipeType<?> getType() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
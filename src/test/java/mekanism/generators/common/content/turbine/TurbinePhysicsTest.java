@@ -0,0 +1,117 @@
+package mekanism.generators.common.content.turbine;
+
+import mekanism.api.math.FloatingLong;
+import mekanism.api.math.MathUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.QuickTheory;
+import org.quicktheories.WithQuickTheories;
+import org.quicktheories.core.Gen;
+import org.quicktheories.impl.Constraint;
+
+@DisplayName("Test that the primitive turbine physics match the original implementation")
+class TurbinePhysicsTest implements WithQuickTheories {
+
+    private static final TurbinePhysics.Settings DEFAULT_SETTINGS = new TurbinePhysics.Settings(FloatingLong.createConst(10), 4, 1_280, 32_000, 64_000, 64_000);
+
+    private record Turbine(TurbinePhysics.Settings settings, int blades, int coils, int vents, int condensers, int length, int width, int lowerHeight, long stored,
+                           FloatingLong energyNeeded) {
+
+        int dispersers() {
+            return (length - 2) * (width - 2) - 1;
+        }
+
+        int lowerVolume() {
+            return length * width * lowerHeight;
+        }
+
+        TurbinePhysics physics() {
+            return new TurbinePhysics(settings, blades, coils, vents, condensers, lowerVolume(), dispersers());
+        }
+    }
+
+    private record Result(long flow, double rotation, FloatingLong energy, int water) {
+    }
+
+    private static Gen<Turbine> turbines() {
+        return prng -> {
+            TurbinePhysics.Settings settings = new TurbinePhysics.Settings(FloatingLong.createConst(prng.next(Constraint.between(1, 100)), (short) prng.next(Constraint.between(0, 9_999))),
+                  (int) prng.next(Constraint.between(1, 12)), prng.next(Constraint.between(1, 1_024_000)) / 10D, prng.next(Constraint.between(1, 10_240_000)) / 10D,
+                  prng.next(Constraint.between(1, 1_000_000)), (int) prng.next(Constraint.between(1, 1_000_000)));
+            int length = (int) prng.next(Constraint.between(5, 17));
+            int width = (int) prng.next(Constraint.between(5, 17));
+            int lowerHeight = (int) prng.next(Constraint.between(1, 8));
+            long capacity = length * width * lowerHeight * settings.gasPerTank();
+            //Spread the energy that is needed over multiple orders of magnitude so that both energy limited and flow limited turbines get tested
+            long energyScale = (long) Math.pow(10, prng.next(Constraint.between(0, 15)));
+            FloatingLong energyNeeded = FloatingLong.createConst(prng.next(Constraint.between(0, energyScale)), (short) prng.next(Constraint.between(1, 9_999)));
+            return new Turbine(settings, (int) prng.next(Constraint.between(0, TurbineValidator.MAX_BLADES)), (int) prng.next(Constraint.between(0, 10)),
+                  (int) prng.next(Constraint.between(0, 300)), (int) prng.next(Constraint.between(0, 300)), length, width, lowerHeight,
+                  prng.next(Constraint.between(1, capacity)), energyNeeded);
+        };
+    }
+
+    /**
+     * Copy of how the turbine calculated its flow before the physics were precalculated.
+     */
+    private static Result original(Turbine turbine) {
+        TurbinePhysics.Settings settings = turbine.settings();
+        FloatingLong energyMultiplier = settings.maxEnergyPerSteam().divide(TurbineValidator.MAX_BLADES)
+              .multiply(Math.min(turbine.blades(), turbine.coils() * settings.bladesPerCoil()));
+        if (energyMultiplier.isZero()) {
+            return new Result(0, 0, FloatingLong.ZERO, 0);
+        }
+        double rate = turbine.lowerVolume() * (turbine.dispersers() * settings.disperserGasFlow());
+        rate = Math.min(rate, turbine.vents() * settings.ventGasFlow());
+        double proportion = turbine.stored() / (double) (turbine.lowerVolume() * settings.gasPerTank());
+        double origRate = rate;
+        rate = Math.min(Math.min(turbine.stored(), rate), turbine.energyNeeded().divide(energyMultiplier).doubleValue()) * proportion;
+        long flow = MathUtils.clampToLong(rate);
+        if (flow > 0) {
+            return new Result(flow, rate / origRate, energyMultiplier.multiply(rate), Math.min(MathUtils.clampToInt(rate), turbine.condensers() * settings.condenserRate()));
+        }
+        return new Result(flow, 0, FloatingLong.ZERO, 0);
+    }
+
+    private static Result physics(Turbine turbine) {
+        TurbinePhysics physics = turbine.physics();
+        if (!physics.canProduce()) {
+            return new Result(0, 0, FloatingLong.ZERO, 0);
+        }
+        double rate = physics.getFlowRate(turbine.stored(), turbine.energyNeeded());
+        long flow = MathUtils.clampToLong(rate);
+        if (flow > 0) {
+            return new Result(flow, rate / physics.getMaxFlow(), physics.getProduction(rate), physics.getWaterOutput(rate));
+        }
+        return new Result(flow, 0, FloatingLong.ZERO, 0);
+    }
+
+    @Override
+    public QuickTheory qt() {
+        return WithQuickTheories.super.qt().withExamples(10_000);
+    }
+
+    @Test
+    @DisplayName("Test a full turbine that is limited by the energy it can store")
+    void testEnergyLimited() {
+        Turbine turbine = new Turbine(DEFAULT_SETTINGS, 28, 7, 100, 50, 17, 17, 8, 17 * 17 * 8 * 64_000L, FloatingLong.createConst(12_345, (short) 6_789));
+        Result expected = original(turbine);
+        Assertions.assertTrue(expected.flow() > 0);
+        Assertions.assertEquals(expected, physics(turbine));
+    }
+
+    @Test
+    @DisplayName("Test a turbine without enough coils for its blades")
+    void testCoilLimited() {
+        Turbine turbine = new Turbine(DEFAULT_SETTINGS, 28, 0, 100, 50, 17, 17, 8, 1_000_000, FloatingLong.createConst(1_000_000));
+        Assertions.assertFalse(turbine.physics().canProduce());
+        Assertions.assertEquals(original(turbine), physics(turbine));
+    }
+
+    @Test
+    @DisplayName("Test the primitive physics match the original implementation")
+    void testMatchesOriginal() {
+        qt().forAll(turbines()).check(turbine -> original(turbine).equals(physics(turbine)));
+    }
+}